@@ -0,0 +1,184 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Double.parseDouble;
+import static java.lang.String.format;
+
+import static de.ingogriebsch.spring.hateoas.siren.BenchmarkFixtures.collectionModel;
+import static de.ingogriebsch.spring.hateoas.siren.BenchmarkFixtures.collectionModelType;
+import static de.ingogriebsch.spring.hateoas.siren.BenchmarkFixtures.entityModel;
+import static de.ingogriebsch.spring.hateoas.siren.BenchmarkFixtures.linkConverter;
+import static de.ingogriebsch.spring.hateoas.siren.BenchmarkFixtures.links;
+import static de.ingogriebsch.spring.hateoas.siren.BenchmarkFixtures.objectMapper;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+
+/**
+ * Gate that fails if the number of bytes allocated per operation on one of the main serialization paths grows beyond the
+ * checked-in baseline.
+ * <p>
+ * The allocated bytes are measured through the {@link ThreadMXBean} of the current thread after the path was warmed up. The
+ * baseline is read from the file given through the {@literal allocation.baseline} system property, the tolerated growth through
+ * the {@literal allocation.tolerance} system property (defaults to {@literal 0.15}, i.e. 15%). If the
+ * {@literal allocation.baseline.update} system property is {@literal true}, the measured values are written to the baseline
+ * instead of being verified.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ */
+class AllocationRegressionTest {
+
+    private static final int WARMUP_OPERATIONS = 20_000;
+    private static final int MEASURED_OPERATIONS = 2_000;
+    private static final int ROUNDS = 5;
+
+    private static ThreadMXBean threadMXBean;
+    private static Path baselineFile;
+    private static Properties baseline;
+    private static Properties measured;
+    private static ObjectMapper objectMapper;
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+        threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "Measuring allocated memory is not supported!");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        baselineFile = Paths.get(System.getProperty("allocation.baseline", "src/jmh/resources/allocation-baseline.properties"));
+        baseline = new Properties();
+        if (Files.exists(baselineFile)) {
+            try (Reader reader = Files.newBufferedReader(baselineFile)) {
+                baseline.load(reader);
+            }
+        }
+
+        measured = new Properties();
+        objectMapper = objectMapper();
+    }
+
+    @AfterAll
+    static void afterAll() throws Exception {
+        if (!updateBaseline() || measured == null || measured.isEmpty()) {
+            return;
+        }
+
+        try (Writer writer = Files.newBufferedWriter(baselineFile)) {
+            writer.write(format("# Bytes allocated per operation, verified through the AllocationRegressionTest of the jmh profile.%n"));
+            writer.write(format("# Record new values through './mvnw -Pjmh test -Dtest=AllocationRegressionTest "
+                + "-Dallocation.baseline.update=true'.%n"));
+            for (Object key : new TreeMap<>(measured).keySet()) {
+                writer.write(format("%s=%s%n", key, measured.get(key)));
+            }
+        }
+    }
+
+    @Test
+    void entity_model_serializer() throws Exception {
+        EntityModel<?> model = entityModel(1, 3);
+        verify("serializer.entity-model", () -> objectMapper.writeValueAsBytes(model));
+    }
+
+    @Test
+    void collection_model_deserializer() throws Exception {
+        byte[] source = objectMapper.writeValueAsBytes(collectionModel(10, 1));
+        JavaType type = collectionModelType(objectMapper.getTypeFactory(), 1);
+        verify("deserializer.collection-model", () -> objectMapper.readValue(source, type));
+    }
+
+    @Test
+    void link_converter_to_with_affordances() throws Exception {
+        SirenLinkConverter converter = linkConverter();
+        List<Link> links = links(10, 1, true);
+        verify("link-converter.to", () -> converter.to(links));
+    }
+
+    @Test
+    void link_converter_from() throws Exception {
+        SirenLinkConverter converter = linkConverter();
+        SirenNavigables navigables = converter.to(links(10, 1, false));
+        verify("link-converter.from", () -> converter.from(navigables));
+    }
+
+    private static void verify(String path, Operation operation) throws Exception {
+        long bytesPerOperation = measure(operation);
+        measured.setProperty(path, Long.toString(bytesPerOperation));
+        if (updateBaseline()) {
+            return;
+        }
+
+        String expected = baseline.getProperty(path);
+        assertThat(expected).as("No baseline available for '%s', run with -Dallocation.baseline.update=true to record it!", path)
+            .isNotNull();
+
+        long limit = (long) (Long.parseLong(expected) * (1 + tolerance()));
+        assertThat(bytesPerOperation)
+            .as("Allocation regression on '%s': %d bytes/op measured, baseline is %s bytes/op!", path, bytesPerOperation, expected)
+            .isLessThanOrEqualTo(limit);
+    }
+
+    private static long measure(Operation operation) throws Exception {
+        for (int i = 0; i < WARMUP_OPERATIONS; i++) {
+            operation.execute();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long result = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = threadMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURED_OPERATIONS; i++) {
+                operation.execute();
+            }
+            long after = threadMXBean.getThreadAllocatedBytes(threadId);
+            result = Math.min(result, (after - before) / MEASURED_OPERATIONS);
+        }
+        return result;
+    }
+
+    private static boolean updateBaseline() {
+        return parseBoolean(System.getProperty("allocation.baseline.update"));
+    }
+
+    private static double tolerance() {
+        return parseDouble(System.getProperty("allocation.tolerance", "0.15"));
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+
+        Object execute() throws Exception;
+    }
+}
@@ -0,0 +1,163 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static lombok.AccessLevel.PRIVATE;
+import static org.springframework.hateoas.IanaLinkRelations.SELF;
+import static org.springframework.hateoas.mediatype.MessageResolver.DEFAULTS_ONLY;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.afford;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import de.ingogriebsch.spring.hateoas.siren.support.Capital;
+import de.ingogriebsch.spring.hateoas.siren.support.Country;
+import de.ingogriebsch.spring.hateoas.siren.support.Person;
+import de.ingogriebsch.spring.hateoas.siren.support.State;
+import de.ingogriebsch.spring.hateoas.siren.support.WebMvcPersonController;
+import lombok.NoArgsConstructor;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.PagedModel.PageMetadata;
+import org.springframework.hateoas.RepresentationModel;
+
+/**
+ * Fixtures shared by the benchmarks. All models are built from the fixtures of the test {@literal support} package.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class BenchmarkFixtures {
+
+    static ObjectMapper objectMapper() {
+        return objectMapper(new JsonFactory());
+    }
+
+    static ObjectMapper objectMapper(JsonFactory factory) {
+        SirenConfiguration configuration = new SirenConfiguration().withEntityAndCollectionModelSubclassingEnabled(true);
+
+        SirenMediaTypeConfiguration sirenMediaTypeConfiguration = SirenMediaTypeConfiguration.of(DEFAULTS_ONLY, configuration,
+            SirenEntityClassProvider.DEFAULT_INSTANCE, SirenEntityRelProvider.DEFAULT_INSTANCE,
+            new TypeBasedSirenActionFieldTypeConverter(), RepresentationModelFactories.DEFAULT_INSTANCE);
+
+        return sirenMediaTypeConfiguration.configureObjectMapper(new ObjectMapper(factory));
+    }
+
+    static SirenLinkConverter linkConverter() {
+        return new SirenLinkConverter(DEFAULTS_ONLY, new TypeBasedSirenActionFieldTypeConverter());
+    }
+
+    /**
+     * Returns an {@link EntityModel} containing a {@link Person} which is wrapped into further entity models until the given
+     * depth is reached.
+     */
+    static EntityModel<?> entityModel(int id, int depth) {
+        EntityModel<?> model = EntityModel.of(person(id), links(id, false));
+        for (int i = 1; i < depth; i++) {
+            model = EntityModel.of(model, links(id, false));
+        }
+        return model;
+    }
+
+    static JavaType entityModelType(TypeFactory typeFactory, int depth) {
+        JavaType type = typeFactory.constructParametricType(EntityModel.class, Person.class);
+        for (int i = 1; i < depth; i++) {
+            type = typeFactory.constructParametricType(EntityModel.class, type);
+        }
+        return type;
+    }
+
+    static CollectionModel<?> collectionModel(int width, int depth) {
+        return CollectionModel.of(entityModels(width, depth), Link.of("/persons", SELF));
+    }
+
+    static JavaType collectionModelType(TypeFactory typeFactory, int depth) {
+        return typeFactory.constructParametricType(CollectionModel.class, entityModelType(typeFactory, depth));
+    }
+
+    static PagedModel<?> pagedModel(int width, int depth) {
+        return PagedModel.of(entityModels(width, depth), new PageMetadata(width, 0, width), Link.of("/persons", SELF));
+    }
+
+    static JavaType pagedModelType(TypeFactory typeFactory, int depth) {
+        return typeFactory.constructParametricType(PagedModel.class, entityModelType(typeFactory, depth));
+    }
+
+    static Country country(int width) {
+        List<State> states = newArrayList();
+        for (int i = 0; i < width; i++) {
+            State state = new State(new Capital("Capital " + i, Link.of("/capitals/" + i, SELF)), Link.of("/states/" + i, SELF));
+            state.setName("State " + i);
+            states.add(state);
+        }
+        Country country = new Country(states, Link.of("/countries/1", SELF));
+        country.setName("Country");
+        return country;
+    }
+
+    static RepresentationModel<?> sirenModel(int width) {
+        return SirenModelBuilder.sirenModel() //
+            .classes("persons") //
+            .title("Persons") //
+            .properties(new Person("Peter", 33)) //
+            .entities("person", entityModels(width, 1)) //
+            .linksAndActions(links(0, true)) //
+            .build();
+    }
+
+    /**
+     * Returns links of a person. If requested, the self link carries the affordances of the {@link WebMvcPersonController}.
+     */
+    static List<Link> links(int id, boolean affordances) {
+        Link self = Link.of("/persons/" + id, SELF);
+        if (affordances) {
+            WebMvcPersonController controller = methodOn(WebMvcPersonController.class);
+            self = linkTo(controller.findOne(id)).withSelfRel() //
+                .andAffordance(afford(controller.update(id, null))) //
+                .andAffordance(afford(controller.patch(id, null)));
+        }
+        return newArrayList(self, Link.of("/persons", "persons"));
+    }
+
+    static List<Link> links(int width, int id, boolean affordances) {
+        List<Link> links = newArrayList();
+        for (int i = 0; i < width; i++) {
+            links.addAll(links(id + i, affordances));
+        }
+        return links;
+    }
+
+    private static List<EntityModel<?>> entityModels(int width, int depth) {
+        List<EntityModel<?>> models = newArrayList();
+        for (int i = 0; i < width; i++) {
+            models.add(entityModel(i, depth));
+        }
+        return models;
+    }
+
+    private static Person person(int id) {
+        return new Person("Person " + id, id);
+    }
+}
@@ -0,0 +1,80 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static java.lang.System.out;
+
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.CollectionModel;
+
+/**
+ * Benchmarks the encoding and decoding of Siren entities in the JSON format against the binary Smile format. The size of the
+ * payloads is printed while setting up the benchmark.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see MediaTypes#SIREN_SMILE
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DataFormatBenchmark {
+
+    @Param({ "json", "smile" })
+    String format;
+
+    @Param({ "1", "10", "100" })
+    int width;
+
+    private ObjectMapper objectMapper;
+    private CollectionModel<?> collectionModel;
+    private JavaType collectionModelType;
+    private byte[] collectionModelSource;
+
+    @Setup
+    public void setup() throws Exception {
+        objectMapper = BenchmarkFixtures.objectMapper("smile".equals(format) ? new SmileFactory() : new JsonFactory());
+        collectionModel = BenchmarkFixtures.collectionModel(width, 1);
+        collectionModelType = BenchmarkFixtures.collectionModelType(objectMapper.getTypeFactory(), 1);
+        collectionModelSource = objectMapper.writeValueAsBytes(collectionModel);
+
+        out.printf("%nPayload of a collection model with %d entities as %s: %d bytes%n", width, format,
+            collectionModelSource.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return objectMapper.writeValueAsBytes(collectionModel);
+    }
+
+    @Benchmark
+    public Object decode() throws Exception {
+        return objectMapper.readValue(collectionModelSource, collectionModelType);
+    }
+}
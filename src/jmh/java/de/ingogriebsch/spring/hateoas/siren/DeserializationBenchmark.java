@@ -0,0 +1,92 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import de.ingogriebsch.spring.hateoas.siren.support.Country;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the deserialization of Siren entities into the different representation models.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DeserializationBenchmark {
+
+    @Param({ "1", "10", "100" })
+    int width;
+
+    @Param({ "1", "3" })
+    int depth;
+
+    private ObjectMapper objectMapper;
+    private byte[] entityModel;
+    private JavaType entityModelType;
+    private byte[] collectionModel;
+    private JavaType collectionModelType;
+    private byte[] pagedModel;
+    private JavaType pagedModelType;
+    private byte[] country;
+
+    @Setup
+    public void setup() throws Exception {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        TypeFactory typeFactory = objectMapper.getTypeFactory();
+
+        entityModel = objectMapper.writeValueAsBytes(BenchmarkFixtures.entityModel(1, depth));
+        entityModelType = BenchmarkFixtures.entityModelType(typeFactory, depth);
+        collectionModel = objectMapper.writeValueAsBytes(BenchmarkFixtures.collectionModel(width, depth));
+        collectionModelType = BenchmarkFixtures.collectionModelType(typeFactory, depth);
+        pagedModel = objectMapper.writeValueAsBytes(BenchmarkFixtures.pagedModel(width, depth));
+        pagedModelType = BenchmarkFixtures.pagedModelType(typeFactory, depth);
+        country = objectMapper.writeValueAsBytes(BenchmarkFixtures.country(width));
+    }
+
+    @Benchmark
+    public Object entityModel() throws Exception {
+        return objectMapper.readValue(entityModel, entityModelType);
+    }
+
+    @Benchmark
+    public Object collectionModel() throws Exception {
+        return objectMapper.readValue(collectionModel, collectionModelType);
+    }
+
+    @Benchmark
+    public Object pagedModel() throws Exception {
+        return objectMapper.readValue(pagedModel, pagedModelType);
+    }
+
+    @Benchmark
+    public Object subclassedCollectionModel() throws Exception {
+        return objectMapper.readValue(country, Country.class);
+    }
+}
@@ -0,0 +1,71 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static de.ingogriebsch.spring.hateoas.siren.BenchmarkFixtures.linkConverter;
+import static de.ingogriebsch.spring.hateoas.siren.BenchmarkFixtures.links;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.Link;
+
+/**
+ * Benchmarks the conversion of {@link Link}s (and their affordances) into Siren links and actions and the other way around.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class LinkConverterBenchmark {
+
+    @Param({ "1", "10" })
+    int width;
+
+    @Param({ "false", "true" })
+    boolean affordances;
+
+    private SirenLinkConverter linkConverter;
+    private List<Link> links;
+    private SirenNavigables navigables;
+
+    @Setup
+    public void setup() {
+        linkConverter = linkConverter();
+        links = links(width, 1, affordances);
+        navigables = linkConverter.to(links);
+    }
+
+    @Benchmark
+    public SirenNavigables to() {
+        return linkConverter.to(links);
+    }
+
+    @Benchmark
+    public List<Link> from() {
+        return linkConverter.from(navigables);
+    }
+}
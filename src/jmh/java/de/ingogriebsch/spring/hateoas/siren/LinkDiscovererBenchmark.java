@@ -0,0 +1,85 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static de.ingogriebsch.spring.hateoas.siren.BenchmarkFixtures.collectionModel;
+import static de.ingogriebsch.spring.hateoas.siren.BenchmarkFixtures.objectMapper;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+
+/**
+ * Benchmarks the lookup of links through the {@link SirenLinkDiscoverer}.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class LinkDiscovererBenchmark {
+
+    @Param({ "1", "10", "100" })
+    int width;
+
+    private SirenLinkDiscoverer linkDiscoverer;
+    private SirenLinkDiscoverer nestedLinkDiscoverer;
+    private String representation;
+
+    @Setup
+    public void setup() throws Exception {
+        linkDiscoverer = new SirenLinkDiscoverer();
+        nestedLinkDiscoverer = new SirenLinkDiscoverer(true);
+        representation = objectMapper().writeValueAsString(collectionModel(width, 1));
+    }
+
+    @Benchmark
+    public Link findSelfLink() {
+        return linkDiscoverer.findLinkWithRel("self", representation).orElse(null);
+    }
+
+    @Benchmark
+    public Links findAllPersonsLinks() {
+        return nestedLinkDiscoverer.findLinksWithRel("persons", representation);
+    }
+
+    @Benchmark
+    public Link findFourLinksThroughIndex() {
+        SirenLinkIndex index = linkDiscoverer.index(representation);
+        index.findLinkWithRel("next");
+        index.findLinkWithRel("prev");
+        index.findLinkWithRel("first");
+        return index.findLinkWithRel("self").orElse(null);
+    }
+
+    @Benchmark
+    public Link findFourLinksThroughDiscoverer() {
+        linkDiscoverer.findLinkWithRel("next", representation);
+        linkDiscoverer.findLinkWithRel("prev", representation);
+        linkDiscoverer.findLinkWithRel("first", representation);
+        return linkDiscoverer.findLinkWithRel("self", representation).orElse(null);
+    }
+}
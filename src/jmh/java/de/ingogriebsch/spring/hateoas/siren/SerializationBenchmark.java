@@ -0,0 +1,98 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.ingogriebsch.spring.hateoas.siren.support.Country;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.RepresentationModel;
+
+/**
+ * Benchmarks the serialization of the different representation models into Siren entities.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({ "1", "10", "100" })
+    int width;
+
+    @Param({ "1", "3" })
+    int depth;
+
+    private ObjectMapper objectMapper;
+    private EntityModel<?> entityModel;
+    private CollectionModel<?> collectionModel;
+    private PagedModel<?> pagedModel;
+    private Country country;
+    private RepresentationModel<?> sirenModel;
+
+    @Setup
+    public void setup() {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        entityModel = BenchmarkFixtures.entityModel(1, depth);
+        collectionModel = BenchmarkFixtures.collectionModel(width, depth);
+        pagedModel = BenchmarkFixtures.pagedModel(width, depth);
+        country = BenchmarkFixtures.country(width);
+        sirenModel = BenchmarkFixtures.sirenModel(width);
+    }
+
+    @Benchmark
+    public byte[] entityModel() throws Exception {
+        return objectMapper.writeValueAsBytes(entityModel);
+    }
+
+    @Benchmark
+    public byte[] collectionModel() throws Exception {
+        return objectMapper.writeValueAsBytes(collectionModel);
+    }
+
+    @Benchmark
+    public byte[] pagedModel() throws Exception {
+        return objectMapper.writeValueAsBytes(pagedModel);
+    }
+
+    @Benchmark
+    public byte[] subclassedCollectionModel() throws Exception {
+        return objectMapper.writeValueAsBytes(country);
+    }
+
+    @Benchmark
+    public byte[] sirenModel() throws Exception {
+        return objectMapper.writeValueAsBytes(sirenModel);
+    }
+
+    @Benchmark
+    public RepresentationModel<?> sirenModelBuilder() {
+        return BenchmarkFixtures.sirenModel(width);
+    }
+}
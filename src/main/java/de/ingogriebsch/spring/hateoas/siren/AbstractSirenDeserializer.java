@@ -16,8 +16,10 @@
 package de.ingogriebsch.spring.hateoas.siren;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
 
 import static com.fasterxml.jackson.core.JsonToken.END_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.END_OBJECT;
 import static com.fasterxml.jackson.core.JsonToken.START_ARRAY;
 import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
 import static com.fasterxml.jackson.databind.type.TypeFactory.defaultInstance;
@@ -29,6 +31,7 @@ import java.util.Map;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
@@ -36,7 +39,9 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
 import com.fasterxml.jackson.databind.deser.std.ContainerDeserializerBase;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.lang.Nullable;
 
 /**
  * Base class supporting the implementation of deserializers which are able to deserialize a specific Siren entity into a
@@ -50,16 +55,63 @@ abstract class AbstractSirenDeserializer<T extends RepresentationModel<?>> exten
 
     private static final long serialVersionUID = 3796755247545654672L;
 
+    // Member names of a Siren entity, constant to be usable within a switch over the (interned) names the parser returns.
+    protected static final String PROPERTIES = "properties";
+    protected static final String ENTITIES = "entities";
+    protected static final String LINKS = "links";
+    protected static final String ACTIONS = "actions";
+
+    protected static final JavaType PROPERTIES_TYPE = defaultInstance().constructMapType(Map.class, String.class, Object.class);
+    private static final JavaType LINK_TYPE = defaultInstance().constructType(SirenLink.class);
+    private static final JavaType ACTION_TYPE = defaultInstance().constructType(SirenAction.class);
+
     protected final SirenDeserializerFacilities deserializerFacilities;
     protected final SirenConfiguration configuration;
     protected final JavaType contentType;
 
+    /**
+     * The type contained in the content type or {@literal null} if the content type does not define a unique one.
+     */
+    @Nullable
+    protected final JavaType containedType;
+
+    // The deserializers are only available on a contextual instance, i.e. an instance created through createContextual().
+    @Nullable
+    private final JsonDeserializer<Object> containedTypeDeserializer;
+    @Nullable
+    private final JsonDeserializer<Object> linkDeserializer;
+    @Nullable
+    private final JsonDeserializer<Object> actionDeserializer;
+
     protected AbstractSirenDeserializer(SirenConfiguration configuration, SirenDeserializerFacilities deserializerFacilities,
         JavaType contentType) {
         super(contentType);
         this.deserializerFacilities = deserializerFacilities;
         this.configuration = configuration;
         this.contentType = contentType;
+        this.containedType = findContainedType(contentType);
+        this.containedTypeDeserializer = null;
+        this.linkDeserializer = null;
+        this.actionDeserializer = null;
+    }
+
+    /**
+     * Constructor for a contextual instance which resolves the deserializers it needs once upfront instead of resolving them
+     * while deserializing each entity.
+     */
+    protected AbstractSirenDeserializer(SirenConfiguration configuration, SirenDeserializerFacilities deserializerFacilities,
+        JavaType contentType, DeserializationContext ctxt) throws JsonMappingException {
+        super(contentType);
+        this.deserializerFacilities = deserializerFacilities;
+        this.configuration = configuration;
+        this.contentType = contentType;
+        this.containedType = findContainedType(contentType);
+        // The self reference of a representation model must not be resolved upfront as it would resolve this deserializer again.
+        this.containedTypeDeserializer =
+            containedType != null && !RepresentationModel.class.equals(typeParameterOwner(contentType))
+                ? ctxt.findRootValueDeserializer(containedType) : null;
+        this.linkDeserializer = ctxt.findRootValueDeserializer(LINK_TYPE);
+        this.actionDeserializer = ctxt.findRootValueDeserializer(ACTION_TYPE);
     }
 
     @Override
@@ -78,56 +130,111 @@ abstract class AbstractSirenDeserializer<T extends RepresentationModel<?>> exten
         if (!START_OBJECT.equals(token)) {
             throw new JsonParseException(jp, format("Current token does not represent '%s' (but '%s')!", START_OBJECT, token));
         }
-        return deserializeModel(jp, ctxt);
+
+        SirenMetrics metrics = deserializerFacilities.getMetrics();
+        SirenEvents.Deserialization event = new SirenEvents.Deserialization();
+        if (!(metrics.isEnabled() || event.isEnabled()) || !isRoot(jp)) {
+            return deserializeModel(jp, ctxt);
+        }
+
+        String kind = SirenMetrics.kind(contentType.getRawClass());
+        event.begin();
+        long start = System.nanoTime();
+
+        T model;
+        try {
+            model = deserializeModel(jp, ctxt);
+        } finally {
+            // Failed documents are timed as well, while the flight recorder event is only committed for successful ones.
+            if (metrics.isEnabled()) {
+                metrics.deserialized(kind, System.nanoTime() - start);
+            }
+        }
+
+        if (event.shouldCommit()) {
+            event.modelKind = kind;
+            event.modelType = model.getClass();
+            event.entities = model instanceof CollectionModel ? ((CollectionModel<?>) model).getContent().size() : 0;
+            event.links = model.getLinks().toList().size();
+            event.commit();
+        }
+        return model;
     }
 
     protected abstract T deserializeModel(JsonParser jp, DeserializationContext ctxt) throws IOException;
 
-    @SuppressWarnings("unchecked")
-    protected <E> List<E> deserializeEntries(JavaType javaType, JsonParser jp, DeserializationContext ctxt) throws IOException {
-        JsonDeserializer<E> deserializer = (JsonDeserializer<E>) getDeserializer(javaType, jp, ctxt);
+    /**
+     * Returns if the entity the parser currently points to is the root of the document, i.e. not embedded into another one.
+     */
+    private static boolean isRoot(JsonParser jp) {
+        JsonStreamContext parent = jp.getParsingContext().getParent();
+        return parent == null || parent.inRoot();
+    }
+
+    /**
+     * Skips the value of the member whose name the parser currently points to, including all of its children.
+     */
+    protected void skipMember(JsonParser jp) throws IOException {
+        jp.nextToken();
+        jp.skipChildren();
+    }
+
+    /**
+     * Verifies that the parser points to the end of the entity after all of its members were read.
+     */
+    protected void verifyEndOfEntity(JsonParser jp) throws IOException {
+        JsonToken token = jp.currentToken();
+        if (!END_OBJECT.equals(token)) {
+            throw new JsonParseException(jp, format("Current token does not represent '%s' (but '%s')!", END_OBJECT, token));
+        }
+    }
 
+    @SuppressWarnings("unchecked")
+    protected <E> List<E> deserializeEntries(JsonDeserializer<Object> deserializer, JsonParser jp, DeserializationContext ctxt)
+        throws IOException {
         List<E> entries = newArrayList();
         if (START_ARRAY.equals(jp.nextToken())) {
             while (!END_ARRAY.equals(jp.nextToken())) {
-                entries.add(deserializer.deserialize(jp, ctxt));
+                entries.add((E) deserializer.deserialize(jp, ctxt));
             }
         }
         return entries;
     }
 
     protected List<Object> deserializeEntities(JsonParser jp, DeserializationContext ctxt) throws IOException {
-        return deserializeEntries(obtainContainedType(), jp, ctxt);
+        return deserializeEntries(getContainedTypeDeserializer(jp, ctxt), jp, ctxt);
     }
 
     protected List<SirenLink> deserializeLinks(JsonParser jp, DeserializationContext ctxt) throws IOException {
-        return deserializeEntries(defaultInstance().constructType(SirenLink.class), jp, ctxt);
+        return deserializeEntries(getDeserializer(linkDeserializer, LINK_TYPE, jp, ctxt), jp, ctxt);
     }
 
     protected List<SirenAction> deserializeActions(JsonParser jp, DeserializationContext ctxt) throws IOException {
-        return deserializeEntries(defaultInstance().constructType(SirenAction.class), jp, ctxt);
+        return deserializeEntries(getDeserializer(actionDeserializer, ACTION_TYPE, jp, ctxt), jp, ctxt);
     }
 
     protected JavaType obtainContainedType() {
-        List<JavaType> typeParameters;
-        JavaType type = contentType;
-        do {
-            typeParameters = type.getBindings().getTypeParameters();
-            if (!typeParameters.isEmpty()) {
-                break;
-            }
-            type = type.getSuperClass();
-        } while (type != null);
+        if (containedType != null) {
+            return containedType;
+        }
 
-        if (typeParameters.isEmpty()) {
+        if (typeParameters(contentType).isEmpty()) {
             throw new IllegalArgumentException(format("No type parameters available through content type '%s'!", contentType));
         }
+        throw new IllegalArgumentException(format("No unique type parameter available through content type '%s'!", contentType));
+    }
 
-        if (typeParameters.size() > 1) {
-            throw new IllegalArgumentException(
-                format("No unique type parameter available through content type '%s'!", contentType));
-        }
-        return typeParameters.iterator().next();
+    protected JsonDeserializer<Object> getContainedTypeDeserializer(JsonParser jp, DeserializationContext ctxt)
+        throws JsonMappingException, JsonParseException {
+        return containedTypeDeserializer != null ? containedTypeDeserializer : getDeserializer(obtainContainedType(), jp, ctxt);
+    }
+
+    /**
+     * Returns the given deserializer if it was already resolved, otherwise resolves the deserializer for the given type.
+     */
+    protected JsonDeserializer<Object> getDeserializer(@Nullable JsonDeserializer<Object> resolved, JavaType type, JsonParser jp,
+        DeserializationContext ctxt) throws JsonMappingException, JsonParseException {
+        return resolved != null ? resolved : getDeserializer(type, jp, ctxt);
     }
 
     protected JsonDeserializer<Object> getDeserializer(JavaType type, JsonParser jp, DeserializationContext ctxt)
@@ -139,10 +246,6 @@ abstract class AbstractSirenDeserializer<T extends RepresentationModel<?>> exten
         return deserializer;
     }
 
-    protected Map<String, Object> extractProperties(Object object, String... excludes) {
-        return deserializerFacilities.getPropertiesFacility().extract(object, excludes);
-    }
-
     protected SirenLinkConverter getLinkConverter() {
         return deserializerFacilities.getLinkConverter();
     }
@@ -150,4 +253,33 @@ abstract class AbstractSirenDeserializer<T extends RepresentationModel<?>> exten
     protected RepresentationModelFactories getRepresentationModelFactories() {
         return deserializerFacilities.getRepresentationModelFactories();
     }
+
+    @Nullable
+    private static JavaType findContainedType(JavaType contentType) {
+        List<JavaType> typeParameters = typeParameters(contentType);
+        return typeParameters.size() == 1 ? typeParameters.get(0) : null;
+    }
+
+    private static List<JavaType> typeParameters(JavaType contentType) {
+        JavaType owner = typeParameterOwnerType(contentType);
+        return owner != null ? owner.getBindings().getTypeParameters() : emptyList();
+    }
+
+    @Nullable
+    private static Class<?> typeParameterOwner(JavaType contentType) {
+        JavaType owner = typeParameterOwnerType(contentType);
+        return owner != null ? owner.getRawClass() : null;
+    }
+
+    /**
+     * Returns the type of the hierarchy of the given content type which is the first one declaring type parameters.
+     */
+    @Nullable
+    private static JavaType typeParameterOwnerType(JavaType contentType) {
+        JavaType type = contentType;
+        while (type != null && type.getBindings().getTypeParameters().isEmpty()) {
+            type = type.getSuperClass();
+        }
+        return type;
+    }
 }
@@ -15,9 +15,16 @@
  */
 package de.ingogriebsch.spring.hateoas.siren;
 
+import static com.google.common.collect.Lists.newArrayList;
+import static de.ingogriebsch.spring.hateoas.siren.SirenProjection.Section.ACTIONS;
+import static de.ingogriebsch.spring.hateoas.siren.SirenProjection.Section.ENTITIES;
+import static de.ingogriebsch.spring.hateoas.siren.SirenProjection.Section.LINKS;
+import static de.ingogriebsch.spring.hateoas.siren.SirenProjection.Section.PROPERTIES;
+import static de.ingogriebsch.spring.hateoas.siren.SirenProjection.Section.TITLE;
+
 import java.util.List;
-import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -27,6 +34,7 @@ import com.fasterxml.jackson.databind.ser.ContainerSerializer;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.lang.Nullable;
 
 /**
  * Base class supporting the implementation of serializers which are able to serialize a representation model related object into
@@ -38,12 +46,11 @@ import org.springframework.hateoas.RepresentationModel;
 abstract class AbstractSirenSerializer<T> extends ContainerSerializer<T> implements ContextualSerializer {
 
     private static final long serialVersionUID = -8665900081601124431L;
-    protected static final String ATTR_KEY_PARENT = "__SIREN_ENTITY_PARENT__";
-    protected static final String ATTR_KEY_REL = "__SIREN_ENTITY_REL__";
 
     protected final SirenConfiguration configuration;
     protected final SirenSerializerFacilities serializerFacilities;
     protected final BeanProperty property;
+    protected final DynamicValueSerializers valueSerializers;
 
     protected AbstractSirenSerializer(Class<?> type, SirenConfiguration configuration,
         SirenSerializerFacilities serializerFacilities, BeanProperty property) {
@@ -51,6 +58,7 @@ abstract class AbstractSirenSerializer<T> extends ContainerSerializer<T> impleme
         this.configuration = configuration;
         this.serializerFacilities = serializerFacilities;
         this.property = property;
+        this.valueSerializers = new DynamicValueSerializers(property);
     }
 
     @Override
@@ -73,8 +81,75 @@ abstract class AbstractSirenSerializer<T> extends ContainerSerializer<T> impleme
         return null;
     }
 
-    protected Map<String, Object> extractProperties(Object object, String... excludes) {
-        return serializerFacilities.getPropertiesFacility().extract(object, excludes);
+    /**
+     * Returns the properties of the given object that should be written for the entity that is currently written. Returns
+     * {@literal null} without touching the object if the projection of the entity does not include its properties.
+     */
+    @Nullable
+    protected Object writableProperties(SirenSerializationContext context, Object object, String... excludes) {
+        SirenProjection projection = context.projection();
+        if (!projection.includes(PROPERTIES)) {
+            return null;
+        }
+
+        SirenServerTimings timings = context.timings();
+        if (timings == null) {
+            return serializerFacilities.getPropertiesFacility().writable(object, projection.fields(), excludes);
+        }
+
+        long start = System.nanoTime();
+        Object properties = serializerFacilities.getPropertiesFacility().writable(object, projection.fields(), excludes);
+        timings.properties(System.nanoTime() - start);
+        return properties;
+    }
+
+    /**
+     * Returns the given object, which is written as the properties of the entity that is currently written, reduced to the
+     * properties the projection of the entity asks for.
+     */
+    @Nullable
+    protected Object projectedProperties(SirenSerializationContext context, @Nullable Object properties) {
+        SirenProjection projection = context.projection();
+        if (properties == null || !projection.includes(PROPERTIES)) {
+            return null;
+        }
+        return projection.fields() != null ? writableProperties(context, properties) : properties;
+    }
+
+    /**
+     * Returns the given sub-entities if the projection of the entity that is currently written includes them.
+     */
+    @Nullable
+    protected <E extends Iterable<?>> E entities(SirenSerializationContext context, @Nullable E entities) {
+        return context.projection().includes(ENTITIES) ? entities : null;
+    }
+
+    /**
+     * Converts the links of the given model into the links and actions of the entity that is currently written. Only the links
+     * and actions the projection of the entity asks for are converted.
+     */
+    protected SirenNavigables navigables(RepresentationModel<?> model, SirenSerializationContext context) {
+        SirenServerTimings timings = context.timings();
+        long start = timings != null ? System.nanoTime() : 0;
+
+        SirenNavigables navigables = convert(model, context.projection());
+        if (timings != null) {
+            timings.links(System.nanoTime() - start);
+        }
+
+        context.count(navigables);
+        return navigables;
+    }
+
+    private SirenNavigables convert(RepresentationModel<?> model, SirenProjection projection) {
+        if (projection == SirenProjection.NONE) {
+            return getLinkConverter().to(model.getLinks());
+        }
+
+        if (!projection.includes(LINKS) && !projection.includes(ACTIONS)) {
+            return SirenNavigables.of(newArrayList(), newArrayList());
+        }
+        return getLinkConverter().to(model.getLinks(), projection::includesLink, projection::includesAction);
     }
 
     protected SirenLinkConverter getLinkConverter() {
@@ -85,34 +160,109 @@ abstract class AbstractSirenSerializer<T> extends ContainerSerializer<T> impleme
         return serializerFacilities.getEntityClassProvider().get(model);
     }
 
-    protected List<LinkRelation> rels(RepresentationModel<?> model, SerializerProvider provider) {
-        List<LinkRelation> rels = removeAttribute(ATTR_KEY_REL, provider);
+    protected SirenSerializationContext context(SerializerProvider provider) {
+        return SirenSerializationContext.of(provider);
+    }
+
+    protected List<LinkRelation> rels(RepresentationModel<?> model, SirenSerializationContext context) {
+        List<LinkRelation> rels = context.takePendingRels();
         if (rels != null) {
             return rels;
         }
 
-        RepresentationModel<?> parent = getAttribute(ATTR_KEY_PARENT, provider);
-        return serializerFacilities.getEntityRelProvider().get(model, parent);
+        return serializerFacilities.getEntityRelProvider().get(model, context.parent());
+    }
+
+    protected SirenEntityWriter entityWriter(JsonGenerator gen, SerializerProvider provider) {
+        return SirenEntityWriter.entityWriter(gen, provider, valueSerializers);
+    }
+
+    /**
+     * Enters the entity of the given model. Starts to collect the statistics of the document if the entity is its root and
+     * either metrics or the flight recorder event are enabled. Returns {@literal false} if the entity should not be written
+     * because the projection of the document does not ask for it, in which case {@link #leave(SirenSerializationContext,
+     * JsonGenerator)} must not be called.
+     */
+    protected boolean enter(RepresentationModel<?> model, List<LinkRelation> rels, SirenSerializationContext context,
+        JsonGenerator gen) {
+        if (context.depth() == 0 && !context.isStreamed()) {
+            SirenEvents.Serialization event = new SirenEvents.Serialization();
+            if (getMetrics().isEnabled() || event.isEnabled()) {
+                event.modelType = model.getClass();
+                event.begin();
+                context.startStatistics(System.nanoTime(), CountingOutputDecorator.position(gen), event);
+            }
+        }
+        return context.enter(model, rels);
+    }
+
+    /**
+     * Leaves the entity entered last. Records the statistics of the document if the entity is its root and either metrics or
+     * the flight recorder event are enabled.
+     */
+    protected void leave(SirenSerializationContext context, JsonGenerator gen) {
+        context.leave();
+        if (context.depth() > 0 || context.isStreamed()) {
+            return;
+        }
+
+        SirenSerializationContext.Statistics statistics = context.stopStatistics();
+        if (statistics == null) {
+            return;
+        }
+
+        long position = CountingOutputDecorator.position(gen);
+        long writtenBytes = position >= 0 && statistics.getPosition() >= 0 ? position - statistics.getPosition() : -1;
+        record(getMetrics(), SirenMetrics.kind(handledType()), statistics, writtenBytes);
     }
 
-    protected String title(Class<?> type) {
-        return serializerFacilities.getMessageResolver().resolve(SirenEntity.TitleResolvable.of(type));
+    /**
+     * Records the given statistics of a document through the metrics and the flight recorder event, if enabled.
+     *
+     * @param metrics the metrics to record the statistics with.
+     * @param kind the kind of the model the root entity of the document was written for.
+     * @param statistics the statistics of the document.
+     * @param writtenBytes the number of bytes written or a negative number if unknown.
+     */
+    static void record(SirenMetrics metrics, String kind, SirenSerializationContext.Statistics statistics, long writtenBytes) {
+        if (metrics.isEnabled()) {
+            metrics.serialized(kind, System.nanoTime() - statistics.getStart(), statistics, writtenBytes);
+        }
+
+        SirenEvents.Serialization event = statistics.getEvent();
+        if (event.shouldCommit()) {
+            event.modelKind = kind;
+            event.entities = statistics.getEntities();
+            event.links = statistics.getLinks();
+            event.actions = statistics.getActions();
+            event.depth = statistics.getDepth();
+            event.commit();
+        }
     }
 
-    protected Object setAttribute(String key, Object value, SerializerProvider provider) {
-        Object current = provider.getAttribute(key);
-        provider.setAttribute(key, value);
-        return current;
+    protected SirenMetrics getMetrics() {
+        return serializerFacilities.getMetrics();
     }
 
-    @SuppressWarnings("unchecked")
-    protected <A> A getAttribute(String key, SerializerProvider provider) {
-        return (A) provider.getAttribute(key);
+    @Nullable
+    protected String title(Class<?> type, SirenSerializationContext context) {
+        if (!context.projection().includes(TITLE)) {
+            return null;
+        }
+
+        SirenServerTimings timings = context.timings();
+        if (timings == null) {
+            return title(type);
+        }
+
+        long start = System.nanoTime();
+        String title = title(type);
+        timings.titles(System.nanoTime() - start);
+        return title;
     }
 
-    protected <A> A removeAttribute(String key, SerializerProvider provider) {
-        A attribute = getAttribute(key, provider);
-        provider.setAttribute(key, null);
-        return attribute;
+    private String title(Class<?> type) {
+        return SirenEvents.TitleResolution.resolve(serializerFacilities.getMessageResolver(),
+            SirenEntity.TitleResolvable.of(type));
     }
 }
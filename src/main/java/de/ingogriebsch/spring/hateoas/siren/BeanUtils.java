@@ -15,17 +15,27 @@
  */
 package de.ingogriebsch.spring.hateoas.siren;
 
+import static java.lang.invoke.MethodType.methodType;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
 
 import static lombok.AccessLevel.PRIVATE;
 import static org.springframework.beans.BeanUtils.getPropertyDescriptor;
-import static org.springframework.beans.BeanUtils.instantiateClass;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.NoArgsConstructor;
+import org.springframework.beans.BeanInstantiationException;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -37,14 +47,92 @@ import org.springframework.util.ReflectionUtils;
 @NoArgsConstructor(access = PRIVATE)
 class BeanUtils {
 
+    private static final MethodType CONSTRUCTOR_TYPE = methodType(Object.class, Object[].class);
+
+    // The resolved constructors are cached per type. As each handle strongly references its type, a type stays loaded once it
+    // was instantiated through this class.
+    private static final ClassValue<Map<List<Class<?>>, MethodHandle>> CONSTRUCTORS = new ClassValue<>() {
+
+        @Override
+        protected Map<List<Class<?>>, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Instantiates the given class through the constructor matching the given parameter types.
+     * <p>
+     * If no constructor exactly declares the given parameter types, the most specific constructor whose parameters are
+     * assignable from them is used, e.g. the canonical constructor of a record. If there is no such constructor or several of
+     * them are equally specific, an {@link IllegalStateException} is thrown. The constructor is resolved once per class and
+     * parameter types
+     * and kept as a {@link MethodHandle}. Exceptions thrown by the constructor are wrapped into a
+     * {@link BeanInstantiationException}, while errors are rethrown as is.
+     */
     static <T> T instantiate(Class<T> clazz, Class<?>[] types, Object[] args) {
+        MethodHandle constructor = CONSTRUCTORS.get(clazz).computeIfAbsent(List.of(types), key -> constructor(clazz, types));
+        Object instance;
+        try {
+            instance = constructor.invokeExact(args);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new BeanInstantiationException(clazz, "Constructor threw exception", e);
+        }
+        return clazz.cast(instance);
+    }
+
+    private static MethodHandle constructor(Class<?> clazz, Class<?>[] types) {
+        Constructor<?> constructor = findConstructor(clazz, types);
         try {
-            return instantiateClass(clazz.getDeclaredConstructor(types), args);
-        } catch (NoSuchMethodException | SecurityException e) {
+            ReflectionUtils.makeAccessible(constructor);
+            return MethodHandles.lookup().unreflectConstructor(constructor).asSpreader(Object[].class, types.length)
+                .asType(CONSTRUCTOR_TYPE);
+        } catch (IllegalAccessException | SecurityException e) {
             throw new IllegalStateException(e);
         }
     }
 
+    private static Constructor<?> findConstructor(Class<?> clazz, Class<?>[] types) {
+        try {
+            return clazz.getDeclaredConstructor(types);
+        } catch (NoSuchMethodException e) {
+            List<Constructor<?>> candidates = new ArrayList<>();
+            for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+                if (assignable(constructor.getParameterTypes(), types)) {
+                    candidates.add(constructor);
+                }
+            }
+            if (candidates.isEmpty()) {
+                throw new IllegalStateException(e);
+            }
+            return mostSpecific(clazz, candidates);
+        }
+    }
+
+    private static Constructor<?> mostSpecific(Class<?> clazz, List<Constructor<?>> candidates) {
+        List<Constructor<?>> mostSpecific = candidates.stream().filter(candidate -> candidates.stream()
+            .allMatch(other -> assignable(other.getParameterTypes(), candidate.getParameterTypes()))).collect(toList());
+        if (mostSpecific.size() != 1) {
+            throw new IllegalStateException(
+                String.format("Ambiguous constructors %s found for %s!", candidates, clazz.getName()));
+        }
+        return mostSpecific.get(0);
+    }
+
+    private static boolean assignable(Class<?>[] parameterTypes, Class<?>[] types) {
+        if (parameterTypes.length != types.length) {
+            return false;
+        }
+
+        for (int i = 0; i < types.length; i++) {
+            if (!ClassUtils.isAssignable(parameterTypes[i], types[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     static <T> T applyProperties(T obj, Map<String, Object> properties) {
         properties.forEach((key, value) -> ofNullable(getPropertyDescriptor(obj.getClass(), key)).ifPresent(property -> {
             try {
@@ -0,0 +1,85 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static java.util.Arrays.asList;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.Value;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link MessageResolver} which caches the messages resolved through its delegate per {@link Locale} and message codes.
+ * <p>
+ * Messages that are not available are cached as well, so that a missing message is only looked up once. Resolvables carrying
+ * arguments are always delegated because the resolved message depends on them.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenTitleCacheStatistics
+ */
+class CachingMessageResolver implements MessageResolver {
+
+    private final MessageResolver delegate;
+    private final Cache<Key, Optional<String>> cache;
+
+    CachingMessageResolver(MessageResolver delegate, long maximumSize) {
+        this.delegate = delegate;
+        this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+
+    @Override
+    public String resolve(MessageSourceResolvable resolvable) {
+        String[] codes = resolvable.getCodes();
+        if (codes == null || !ObjectUtils.isEmpty(resolvable.getArguments())) {
+            return delegate.resolve(resolvable);
+        }
+
+        Key key = Key.of(LocaleContextHolder.getLocale(), asList(codes), resolvable.getDefaultMessage());
+        Optional<String> message = cache.getIfPresent(key);
+        if (message == null) {
+            message = Optional.ofNullable(delegate.resolve(resolvable));
+            cache.put(key, message);
+        }
+        return message.orElse(null);
+    }
+
+    void invalidate() {
+        cache.invalidateAll();
+    }
+
+    SirenTitleCacheStatistics statistics() {
+        CacheStats stats = cache.stats();
+        return SirenTitleCacheStatistics.of(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.size());
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Key {
+
+        Locale locale;
+        List<String> codes;
+        String defaultMessage;
+    }
+}
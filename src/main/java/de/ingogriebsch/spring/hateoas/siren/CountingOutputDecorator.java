@@ -0,0 +1,105 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.io.OutputDecorator;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link OutputDecorator} that counts the bytes that are written to the output streams a
+ * {@link com.fasterxml.jackson.core.JsonFactory} creates its generators for. A {@link Writer} is not counted, as the number of
+ * characters written to it does not tell the number of bytes of the document. Delegates to the decorator that was registered
+ * before, if any.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see #position(JsonGenerator)
+ */
+class CountingOutputDecorator extends OutputDecorator {
+
+    private static final long serialVersionUID = -2297421843605232937L;
+
+    @Nullable
+    private final OutputDecorator delegate;
+
+    CountingOutputDecorator(@Nullable OutputDecorator delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns the number of bytes the given generator has written so far, including the ones that are still buffered.
+     *
+     * @param gen the generator to inspect.
+     * @return the number of written bytes or {@literal -1} if the output of the generator is not counted, e.g. because it is a
+     *         {@link Writer}.
+     */
+    static long position(JsonGenerator gen) {
+        Object target = gen.getOutputTarget();
+        int buffered = gen.getOutputBuffered();
+        if (!(target instanceof Counting) || buffered < 0) {
+            return -1;
+        }
+        return ((Counting) target).count() + buffered;
+    }
+
+    @Override
+    public OutputStream decorate(IOContext ctxt, OutputStream out) throws IOException {
+        return new CountingOutputStream(delegate != null ? delegate.decorate(ctxt, out) : out);
+    }
+
+    @Override
+    public Writer decorate(IOContext ctxt, Writer w) throws IOException {
+        return delegate != null ? delegate.decorate(ctxt, w) : w;
+    }
+
+    private interface Counting {
+
+        long count();
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream implements Counting {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public long count() {
+            return count;
+        }
+    }
+}
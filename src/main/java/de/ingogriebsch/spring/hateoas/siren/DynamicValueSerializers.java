@@ -0,0 +1,56 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import org.springframework.lang.Nullable;
+
+/**
+ * Holds the serializers of the values (properties and sub-entities) a Siren serializer writes, keyed by the runtime type of the
+ * values.
+ * <p>
+ * An instance belongs to a serializer that was contextualized for a specific {@link BeanProperty}, so the serializers only need
+ * to be looked up (and contextualized) through the {@link SerializerProvider} once per runtime type instead of once per value.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see PropertySerializerMap
+ */
+class DynamicValueSerializers {
+
+    private final BeanProperty property;
+    private volatile PropertySerializerMap serializers = PropertySerializerMap.emptyForProperties();
+
+    DynamicValueSerializers(@Nullable BeanProperty property) {
+        this.property = property;
+    }
+
+    JsonSerializer<Object> find(Class<?> type, SerializerProvider provider) throws JsonMappingException {
+        PropertySerializerMap map = serializers;
+        JsonSerializer<Object> serializer = map.serializerFor(type);
+        if (serializer != null) {
+            return serializer;
+        }
+
+        PropertySerializerMap.SerializerAndMapResult result = map.findAndAddSecondarySerializer(type, provider, property);
+        serializers = result.map;
+        return result.serializer;
+    }
+}
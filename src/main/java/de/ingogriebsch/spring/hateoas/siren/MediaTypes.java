@@ -40,4 +40,14 @@ public final class MediaTypes {
      */
     public static final MediaType SIREN_JSON = parseMediaType(SIREN_JSON_VALUE);
 
+    /**
+     * A String equivalent of {@link MediaTypes#SIREN_SMILE}.
+     */
+    public static final String SIREN_SMILE_VALUE = "application/vnd.siren+smile";
+
+    /**
+     * Public constant media type for {@code application/vnd.siren+smile}, i.e. Siren in the binary Smile format.
+     */
+    public static final MediaType SIREN_SMILE = parseMediaType(SIREN_SMILE_VALUE);
+
 }
@@ -0,0 +1,130 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.NonNull;
+
+/**
+ * {@link SirenMetrics} implementation which publishes the measurements as Micrometer meters. All meters are tagged with the
+ * kind of the model the measured document is based on ({@literal model}).
+ * <p>
+ * The following meters are published:
+ * <ul>
+ * <li>{@literal siren.serialization}: timer of the serialized documents.</li>
+ * <li>{@literal siren.deserialization}: timer of the deserialized documents.</li>
+ * <li>{@literal siren.serialization.entities}: summary of the number of embedded entities per serialized document.</li>
+ * <li>{@literal siren.serialization.links}: summary of the number of links per serialized document.</li>
+ * <li>{@literal siren.serialization.actions}: summary of the number of actions per serialized document.</li>
+ * <li>{@literal siren.serialization.depth}: summary of the nesting depth per serialized document.</li>
+ * <li>{@literal siren.serialization.size}: summary of the bytes written per serialized document. Only recorded for documents
+ * that are written to a byte stream, e.g. the body of a response, but not for documents written to a {@link java.io.Writer}.</li>
+ * </ul>
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see MeterRegistry
+ */
+class MicrometerSirenMetrics implements SirenMetrics {
+
+    static final String SERIALIZATION = "siren.serialization";
+    static final String DESERIALIZATION = "siren.deserialization";
+    static final String ENTITIES = "siren.serialization.entities";
+    static final String LINKS = "siren.serialization.links";
+    static final String ACTIONS = "siren.serialization.actions";
+    static final String DEPTH = "siren.serialization.depth";
+    static final String SIZE = "siren.serialization.size";
+    static final String MODEL_TAG = "model";
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, SerializationMeters> serializationMeters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timer> deserializationTimers = new ConcurrentHashMap<>();
+
+    MicrometerSirenMetrics(@NonNull MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see de.ingogriebsch.spring.hateoas.siren.SirenMetrics#isEnabled()
+     */
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see de.ingogriebsch.spring.hateoas.siren.SirenMetrics#serialized(java.lang.String, long,
+     * de.ingogriebsch.spring.hateoas.siren.SirenSerializationContext.Statistics, long)
+     */
+    @Override
+    public void serialized(String kind, long duration, SirenSerializationContext.Statistics statistics, long writtenBytes) {
+        SerializationMeters meters = serializationMeters.computeIfAbsent(kind, SerializationMeters::new);
+
+        meters.timer.record(duration, NANOSECONDS);
+        meters.entities.record(statistics.getEntities());
+        meters.links.record(statistics.getLinks());
+        meters.actions.record(statistics.getActions());
+        meters.depth.record(statistics.getDepth());
+        if (writtenBytes >= 0) {
+            meters.size.record(writtenBytes);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see de.ingogriebsch.spring.hateoas.siren.SirenMetrics#deserialized(java.lang.String, long)
+     */
+    @Override
+    public void deserialized(String kind, long duration) {
+        deserializationTimers.computeIfAbsent(kind, k -> timer(DESERIALIZATION, k)).record(duration, NANOSECONDS);
+    }
+
+    private Timer timer(String name, String kind) {
+        return Timer.builder(name).tag(MODEL_TAG, kind).register(registry);
+    }
+
+    private DistributionSummary summary(String name, String kind, String baseUnit) {
+        return DistributionSummary.builder(name).tag(MODEL_TAG, kind).baseUnit(baseUnit).register(registry);
+    }
+
+    private class SerializationMeters {
+
+        private final Timer timer;
+        private final DistributionSummary entities;
+        private final DistributionSummary links;
+        private final DistributionSummary actions;
+        private final DistributionSummary depth;
+        private final DistributionSummary size;
+
+        SerializationMeters(String kind) {
+            timer = timer(SERIALIZATION, kind);
+            entities = summary(ENTITIES, kind, "entities");
+            links = summary(LINKS, kind, "links");
+            actions = summary(ACTIONS, kind, "actions");
+            depth = summary(DEPTH, kind, "entities");
+            size = summary(SIZE, kind, "bytes");
+        }
+    }
+}
@@ -16,22 +16,43 @@
 package de.ingogriebsch.spring.hateoas.siren;
 
 import static java.util.Arrays.asList;
+import static java.util.Arrays.stream;
 
+import static com.google.common.collect.Lists.newArrayList;
+
+import java.io.IOException;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.lang.Nullable;
 
 @RequiredArgsConstructor
 class PropertiesFacility {
 
     private static final Set<String> PROPERTIES_TO_IGNORE = new HashSet<>(asList("class", "links"));
     private final ObjectMapper objectMapper;
+    private final Map<PlanKey, Plan> plans = new ConcurrentHashMap<>();
 
     Map<String, Object> extract(Object object, String... excludes) {
+        SirenEvents.PropertiesExtraction event = new SirenEvents.PropertiesExtraction();
+        event.begin();
+
         Map<String, Object> properties = objectMapper.convertValue(object, new TypeReference<Map<String, Object>>() {
         });
 
@@ -43,6 +64,183 @@ class PropertiesFacility {
             properties.remove(exclude);
         }
 
+        if (event.shouldCommit()) {
+            event.type = object.getClass();
+            event.properties = properties.size();
+            event.commit();
+        }
+        return properties;
+    }
+
+    /**
+     * Returns the properties of the given object in a form that can be handed over to a {@link JsonGenerator}.
+     * <p>
+     * If the object is serialized through a plain bean serializer, the returned value streams the (not excluded) properties of
+     * the object straight into the generator. Otherwise the properties are {@link #extract(Object, String...) extracted} into a
+     * {@link Map} first.
+     *
+     * @param object the object whose properties should be written.
+     * @param excludes the names of the properties that should not be written.
+     * @return the properties of the object or {@literal null} if the object does not expose any properties.
+     */
+    @Nullable
+    Object writable(Object object, String... excludes) {
+        Plan plan = plans.computeIfAbsent(PlanKey.of(object.getClass(), asList(excludes)), this::plan);
+        if (plan.getWriters() != null && plan.isNeverEmpty()) {
+            return new StreamingProperties(object, plan.getWriters(), objectMapper);
+        }
+
+        Map<String, Object> properties = extract(object, excludes);
+        return properties.isEmpty() ? null : properties;
+    }
+
+    /**
+     * Returns the given properties of the object in a form that can be handed over to a {@link JsonGenerator}. Properties of
+     * plainly serialized beans which are not requested are not even read.
+     *
+     * @param object the object whose properties should be written.
+     * @param fields the names of the properties that should be written or {@literal null} if all should be written.
+     * @param excludes the names of the properties that should not be written.
+     * @return the requested properties of the object. Only {@literal null} if all properties are requested and the object does
+     *         not expose any.
+     * @see #writable(Object, String...)
+     */
+    @Nullable
+    Object writable(Object object, @Nullable Set<String> fields, String... excludes) {
+        if (fields == null) {
+            return writable(object, excludes);
+        }
+
+        // The plan is kept per type only, the requested fields are applied on top as they are chosen by the client.
+        Plan plan = plans.computeIfAbsent(PlanKey.of(object.getClass(), asList(excludes)), this::plan);
+        if (plan.getWriters() != null) {
+            BeanPropertyWriter[] writers =
+                stream(plan.getWriters()).filter(w -> fields.contains(w.getName())).toArray(BeanPropertyWriter[]::new);
+            return new StreamingProperties(object, writers, objectMapper);
+        }
+
+        Map<String, Object> properties = extract(object, excludes);
+        properties.keySet().retainAll(fields);
         return properties;
     }
+
+    /**
+     * Returns the type of the object the given properties belong to, i.e. the type of the bean if the properties are streamed.
+     *
+     * @param properties the properties as returned by {@link #writable(Object, String...)} or the object itself.
+     * @return the type of the object. Will never be {@literal null}.
+     */
+    static Class<?> type(Object properties) {
+        return properties instanceof StreamingProperties ? ((StreamingProperties) properties).bean.getClass()
+            : properties.getClass();
+    }
+
+    /**
+     * Returns the number of the given properties if known before they are written.
+     *
+     * @param properties the properties as returned by {@link #writable(Object, String...)} or the object itself.
+     * @return the number of properties or {@literal -1} if not known.
+     */
+    static int count(Object properties) {
+        if (properties instanceof StreamingProperties) {
+            return ((StreamingProperties) properties).writers.length;
+        }
+        return properties instanceof Map ? ((Map<?, ?>) properties).size() : -1;
+    }
+
+    private Plan plan(PlanKey key) {
+        JsonSerializer<Object> serializer;
+        try {
+            serializer = objectMapper.getSerializerProviderInstance().findTypedValueSerializer(key.getType(), true, null);
+        } catch (JsonMappingException e) {
+            return Plan.of(null, false);
+        }
+
+        if (serializer.getClass() != BeanSerializer.class) {
+            return Plan.of(null, false);
+        }
+
+        BeanSerializerInspector inspector = new BeanSerializerInspector((BeanSerializer) serializer);
+        if (!inspector.isPlain()) {
+            return Plan.of(null, false);
+        }
+
+        List<BeanPropertyWriter> writers = newArrayList();
+        boolean neverEmpty = false;
+        for (BeanPropertyWriter writer : inspector.getProperties()) {
+            String name = writer.getName();
+            if (!PROPERTIES_TO_IGNORE.contains(name) && !key.getExcludes().contains(name)) {
+                writers.add(writer);
+                neverEmpty |= !writer.willSuppressNulls();
+            }
+        }
+        return Plan.of(writers.toArray(new BeanPropertyWriter[0]), neverEmpty);
+    }
+
+    @Value(staticConstructor = "of")
+    private static class PlanKey {
+
+        Class<?> type;
+        List<String> excludes;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Plan {
+
+        // Null if the properties of the type cannot be streamed.
+        BeanPropertyWriter[] writers;
+        // Whether at least one of the writers writes its property unconditionally, i.e. the properties never end up empty.
+        boolean neverEmpty;
+    }
+
+    @RequiredArgsConstructor
+    private static class StreamingProperties implements JsonSerializable {
+
+        private final Object bean;
+        private final BeanPropertyWriter[] writers;
+        private final ObjectMapper objectMapper;
+
+        @Override
+        public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            // The properties are written through the provider of the dedicated object mapper, so that they are serialized the
+            // same way as if they were extracted.
+            SerializerProvider provider = objectMapper.getSerializerProviderInstance();
+
+            gen.writeStartObject(bean);
+            for (BeanPropertyWriter writer : writers) {
+                try {
+                    writer.serializeAsField(bean, gen, provider);
+                } catch (IOException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw JsonMappingException.wrapWithPath(e, bean, writer.getName());
+                }
+            }
+            gen.writeEndObject();
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+            serialize(gen, serializers);
+        }
+    }
+
+    private static class BeanSerializerInspector extends BeanSerializer {
+
+        private static final long serialVersionUID = -6512939834451383167L;
+
+        BeanSerializerInspector(BeanSerializerBase source) {
+            super(source);
+        }
+
+        boolean isPlain() {
+            return _anyGetterWriter == null && _objectIdWriter == null && _propertyFilterId == null && _typeId == null
+                    && _filteredProps == null;
+        }
+
+        BeanPropertyWriter[] getProperties() {
+            return _props;
+        }
+    }
 }
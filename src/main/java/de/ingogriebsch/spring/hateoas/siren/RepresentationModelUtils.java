@@ -15,15 +15,9 @@
  */
 package de.ingogriebsch.spring.hateoas.siren;
 
-import static com.google.common.collect.Lists.newArrayList;
 import static lombok.AccessLevel.PRIVATE;
 
-import java.util.List;
-
 import lombok.NoArgsConstructor;
-import org.springframework.hateoas.CollectionModel;
-import org.springframework.hateoas.EntityModel;
-import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
 
 /**
@@ -35,31 +29,16 @@ import org.springframework.hateoas.RepresentationModel;
 @NoArgsConstructor(access = PRIVATE)
 class RepresentationModelUtils {
 
-    // Order on purpose!
-    private static final List<Class<?>> REPRESENTATION_MODEL_TYPES =
-        newArrayList(PagedModel.class, CollectionModel.class, EntityModel.class, RepresentationModel.class);
-
     static boolean isRepresentationModel(Class<?> clazz) {
-        for (Class<?> resourceType : REPRESENTATION_MODEL_TYPES) {
-            if (resourceType.isAssignableFrom(clazz)) {
-                return true;
-            }
-        }
-        return false;
+        return TypeMetadata.of(clazz).isRepresentationModel();
     }
 
     static boolean isRepresentationModelSubclass(Class<?> clazz) {
-        return !REPRESENTATION_MODEL_TYPES.contains(clazz) && REPRESENTATION_MODEL_TYPES.contains(clazz.getSuperclass());
+        return TypeMetadata.of(clazz).isRepresentationModelSubclass();
     }
 
-    @SuppressWarnings("unchecked")
     static Class<? extends RepresentationModel<?>> getRepresentationModelClass(Class<?> clazz) {
-        for (Class<?> resourceType : REPRESENTATION_MODEL_TYPES) {
-            if (resourceType.isAssignableFrom(clazz)) {
-                return (Class<RepresentationModel<?>>) resourceType;
-            }
-        }
-        return null;
+        return TypeMetadata.of(clazz).getRepresentationModelClass();
     }
 
     static RepresentationModel<?> wrap(Object obj) {
@@ -31,6 +31,7 @@ import lombok.Builder.Default;
 import lombok.NonNull;
 import lombok.Singular;
 import lombok.Value;
+import lombok.With;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.http.HttpMethod;
 
@@ -58,6 +59,7 @@ class SirenAction {
     HttpMethod method = GET;
 
     @NonNull
+    @With
     String href;
 
     @JsonInclude(NON_NULL)
@@ -17,8 +17,6 @@ package de.ingogriebsch.spring.hateoas.siren;
 
 import static java.lang.String.format;
 
-import static com.fasterxml.jackson.core.JsonToken.END_OBJECT;
-import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
 import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
 import static com.fasterxml.jackson.databind.type.TypeFactory.defaultInstance;
 
@@ -32,6 +30,7 @@ import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.lang.Nullable;
 
@@ -47,6 +46,9 @@ class SirenCollectionModelDeserializer extends AbstractSirenDeserializer<Collect
     private static final long serialVersionUID = 4364222303241126575L;
     private static final JavaType TYPE = defaultInstance().constructType(CollectionModel.class);
 
+    @Nullable
+    private final JsonDeserializer<Object> propertiesDeserializer;
+
     SirenCollectionModelDeserializer(SirenConfiguration configuration, SirenDeserializerFacilities deserializerFacilities) {
         this(configuration, deserializerFacilities, TYPE);
     }
@@ -54,12 +56,20 @@ class SirenCollectionModelDeserializer extends AbstractSirenDeserializer<Collect
     SirenCollectionModelDeserializer(SirenConfiguration configuration, SirenDeserializerFacilities deserializerFacilities,
         JavaType contentType) {
         super(configuration, deserializerFacilities, contentType);
+        this.propertiesDeserializer = null;
+    }
+
+    private SirenCollectionModelDeserializer(SirenConfiguration configuration, SirenDeserializerFacilities deserializerFacilities,
+        JavaType contentType, DeserializationContext ctxt) throws JsonMappingException {
+        super(configuration, deserializerFacilities, contentType, ctxt);
+        this.propertiesDeserializer = ctxt.findRootValueDeserializer(PROPERTIES_TYPE);
     }
 
     @Override
-    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, @Nullable BeanProperty property) {
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, @Nullable BeanProperty property)
+        throws JsonMappingException {
         JavaType contentType = property == null ? ctxt.getContextualType() : property.getType().getContentType();
-        return new SirenCollectionModelDeserializer(configuration, deserializerFacilities, contentType);
+        return new SirenCollectionModelDeserializer(configuration, deserializerFacilities, contentType, ctxt);
     }
 
     @Override
@@ -67,33 +77,32 @@ class SirenCollectionModelDeserializer extends AbstractSirenDeserializer<Collect
         SirenCollectionModelBuilder builder = SirenCollectionModelBuilder.builder(contentType,
             getRepresentationModelFactories().forCollectioModel(), getLinkConverter());
 
-        while (!END_OBJECT.equals(jp.nextToken())) {
-            if (FIELD_NAME.equals(jp.currentToken())) {
-                String text = jp.getText();
-                if ("properties".equals(text)) {
+        String name;
+        while ((name = jp.nextFieldName()) != null) {
+            switch (name) {
+                case PROPERTIES:
                     builder.properties(deserializeProperties(jp, ctxt));
-                }
-
-                if ("entities".equals(text)) {
+                    break;
+                case ENTITIES:
                     builder.content(deserializeEntities(jp, ctxt));
-                }
-
-                if ("links".equals(text)) {
+                    break;
+                case LINKS:
                     builder.links(deserializeLinks(jp, ctxt));
-                }
-
-                if ("actions".equals(text)) {
+                    break;
+                case ACTIONS:
                     builder.actions(deserializeActions(jp, ctxt));
-                }
+                    break;
+                default:
+                    skipMember(jp);
             }
         }
+        verifyEndOfEntity(jp);
         return builder.build();
     }
 
     @SuppressWarnings("unchecked")
     private Map<String, Object> deserializeProperties(JsonParser jp, DeserializationContext ctxt) throws IOException {
-        JsonDeserializer<Object> deserializer =
-            getDeserializer(defaultInstance().constructMapType(Map.class, String.class, Object.class), jp, ctxt);
+        JsonDeserializer<Object> deserializer = getDeserializer(propertiesDeserializer, PROPERTIES_TYPE, jp, ctxt);
 
         JsonToken nextToken = jp.nextToken();
         if (!START_OBJECT.equals(nextToken)) {
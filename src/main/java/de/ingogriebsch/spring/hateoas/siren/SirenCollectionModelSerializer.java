@@ -15,19 +15,17 @@
  */
 package de.ingogriebsch.spring.hateoas.siren;
 
-import static java.util.stream.Collectors.toList;
-
 import static de.ingogriebsch.spring.hateoas.siren.RepresentationModelUtils.isRepresentationModelSubclass;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.lang.Nullable;
 
 /**
@@ -57,27 +55,63 @@ class SirenCollectionModelSerializer extends AbstractSirenSerializer<CollectionM
 
     @Override
     public void serialize(CollectionModel<?> model, JsonGenerator gen, SerializerProvider provider) throws IOException {
-        assertSubclassingIsEnabledIfModelIsSubclassed(model);
-
-        SirenNavigables navigables = getLinkConverter().to(model.getLinks());
+        if (model instanceof SirenStreamingCollectionModel) {
+            serialize((SirenStreamingCollectionModel<?>) model, gen, provider);
+            return;
+        }
 
-        SirenEntity sirenEntity = SirenEntity.builder() //
-            .actions(navigables.getActions()) //
-            .classes(classes(model)) //
-            .entities(entities(model)) //
-            .links(navigables.getLinks()) //
-            .properties(properties(model)) //
-            .rels(rels(model, provider)) //
-            .title(title(model.getClass())) //
-            .build();
+        assertSubclassingIsEnabledIfModelIsSubclassed(model);
 
-        JsonSerializer<Object> serializer = provider.findValueSerializer(SirenEntity.class, property);
+        SirenSerializationContext context = context(provider);
+        List<LinkRelation> rels = rels(model, context);
 
-        Object parent = setAttribute(ATTR_KEY_PARENT, model, provider);
+        if (!enter(model, rels, context, gen)) {
+            return;
+        }
         try {
-            serializer.serialize(sirenEntity, gen, provider);
+            SirenNavigables navigables = navigables(model, context);
+            entityWriter(gen, provider) //
+                .start(model) //
+                .classes(classes(model)) //
+                .rels(rels) //
+                .properties(properties(model, context)) //
+                .entities(entities(context, model.getContent())) //
+                .links(navigables.getLinks()) //
+                .actions(navigables.getActions()) //
+                .title(title(model.getClass(), context)) //
+                .end();
         } finally {
-            setAttribute(ATTR_KEY_PARENT, parent, provider);
+            leave(context, gen);
+        }
+    }
+
+    /**
+     * Writes the content of the given streaming model item by item while pulling it from the underlying stream. The stream is
+     * closed afterwards, regardless of whether the serialization succeeded or not.
+     */
+    private void serialize(SirenStreamingCollectionModel<?> model, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+        try (model) {
+            SirenSerializationContext context = context(provider);
+            List<LinkRelation> rels = rels(model, context);
+
+            if (!enter(model, rels, context, gen)) {
+                return;
+            }
+            try {
+                SirenNavigables navigables = navigables(model, context);
+                entityWriter(gen, provider) //
+                    .start(model) //
+                    .classes(classes(model)) //
+                    .rels(rels) //
+                    .entities(entities(context, model)) //
+                    .links(navigables.getLinks()) //
+                    .actions(navigables.getActions()) //
+                    .title(title(model.getClass(), context)) //
+                    .end();
+            } finally {
+                leave(context, gen);
+            }
         }
     }
 
@@ -90,17 +124,7 @@ class SirenCollectionModelSerializer extends AbstractSirenSerializer<CollectionM
         }
     }
 
-    private Map<String, Object> properties(CollectionModel<?> model) {
-        Map<String, Object> properties = extractProperties(model, "content");
-        return properties.isEmpty() ? null : properties;
-    }
-
-    private static List<Object> entities(CollectionModel<?> model) {
-        return model.getContent().stream().map(SirenCollectionModelSerializer::entity).collect(toList());
+    private Object properties(CollectionModel<?> model, SirenSerializationContext context) {
+        return writableProperties(context, model, "content");
     }
-
-    private static Object entity(Object embeddable) {
-        return embeddable;
-    }
-
 }
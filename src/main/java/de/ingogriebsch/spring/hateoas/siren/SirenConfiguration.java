@@ -18,8 +18,10 @@ package de.ingogriebsch.spring.hateoas.siren;
 import static com.google.common.collect.Lists.newArrayList;
 import static de.ingogriebsch.spring.hateoas.siren.TypeMapping.typeMapping;
 import static lombok.AccessLevel.PACKAGE;
+import static org.apache.commons.lang3.Validate.isTrue;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.function.Consumer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -42,6 +44,9 @@ public class SirenConfiguration {
     private List<TypeMapping> actionFieldTypeMappings = newArrayList();
     private Consumer<ObjectMapper> objectMapperCustomizer = objectMapper -> {
     };
+    private long titleCacheMaximumSize = 1000;
+    private int serverTimingMaximumBodySize = 0;
+    private boolean projectionEnabled = false;
 
     /**
      * Configures whether it is possible to subclass {@link EntityModel}s and {@link CollectionModel}s.
@@ -100,4 +105,48 @@ public class SirenConfiguration {
         this.objectMapperCustomizer = objectMapperCustomizer;
         return this;
     }
+
+    /**
+     * Configures the maximum number of resolved titles that are cached per application. Titles are cached per {@link Locale}
+     * and message codes, missing messages included. A value of {@literal 0} disables the cache. Defaults to {@literal 1000}.
+     * 
+     * @param maximumSize the maximum number of cached titles. Must not be negative.
+     * @return the updated configuration reflecting the setting
+     */
+    public SirenConfiguration withTitleCacheMaximumSize(long maximumSize) {
+        isTrue(maximumSize >= 0, "The maximum size of the title cache must not be negative!");
+        titleCacheMaximumSize = maximumSize;
+        return this;
+    }
+
+    /**
+     * Configures the maximum size (in bytes) of Siren responses that are rendered upfront to be able to add a
+     * {@literal Server-Timing} header. The header breaks down the time spent converting links and actions, extracting
+     * properties, looking up titles and writing JSON. Responses exceeding the size are written without the header. A value of
+     * {@literal 0} disables the header. Defaults to {@literal 0}.
+     * <p>
+     * This is meant to debug slow endpoints and should not be enabled in production, because the time measurements and the
+     * buffering of the responses add overhead.
+     * 
+     * @param maximumSize the maximum size of responses that carry the header. Must not be negative.
+     * @return the updated configuration reflecting the setting
+     */
+    public SirenConfiguration withServerTimingMaximumBodySize(int maximumSize) {
+        isTrue(maximumSize >= 0, "The maximum body size of responses carrying a Server-Timing header must not be negative!");
+        serverTimingMaximumBodySize = maximumSize;
+        return this;
+    }
+
+    /**
+     * Configures whether clients are able to request a projection of Siren responses through the {@literal fields} and
+     * {@literal include} query parameters, e.g. {@literal ?fields=name,age&include=links,actions:update}. Parts of the entities
+     * which are not requested are neither computed nor written. Defaults to {@literal false}.
+     * 
+     * @param enabled whether the projection of Siren responses should be enabled or not.
+     * @return the updated configuration reflecting the setting
+     */
+    public SirenConfiguration withProjectionEnabled(boolean enabled) {
+        projectionEnabled = enabled;
+        return this;
+    }
 }
@@ -0,0 +1,68 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static lombok.AccessLevel.PACKAGE;
+
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.Links;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * A Siren collection which is decoded incrementally by the {@link SirenDecodedCollectionModelDecoder}. Each embedded entity is
+ * emitted through the {@link #getContent() content} as soon as it is parsed, so the collection is never held in memory as a
+ * whole.
+ * <p>
+ * The top-level members of the collection are available separately. Because they may follow the embedded entities in the
+ * document, the {@link #getLinks() links} and {@link #getProperties() properties} are resolved while the content is consumed.
+ * The content must therefore be subscribed to, otherwise neither of them ever completes. It can only be consumed once.
+ *
+ * @param <T> the type of the content.
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenDecodedCollectionModelDecoder
+ * @see CollectionModel
+ */
+@Getter
+@RequiredArgsConstructor(access = PACKAGE)
+public final class SirenDecodedCollectionModel<T> {
+
+    /**
+     * The embedded entities of the collection, emitted while they are parsed.
+     */
+    @NonNull
+    private final Flux<T> content;
+
+    /**
+     * The links (and actions) of the collection. Completes once the content was consumed completely, or empty if the
+     * subscription to the content is cancelled before. Never completes if the content is not subscribed to.
+     */
+    @NonNull
+    private final Mono<Links> links;
+
+    /**
+     * The properties of the collection. Completes empty if the collection does not define properties or if the subscription to
+     * the content is cancelled before they are parsed. Never completes if the content is not subscribed to.
+     */
+    @NonNull
+    private final Mono<Map<String, Object>> properties;
+}
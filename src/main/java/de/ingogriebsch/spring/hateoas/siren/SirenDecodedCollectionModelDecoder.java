@@ -0,0 +1,271 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static com.fasterxml.jackson.core.JsonToken.END_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
+import static com.fasterxml.jackson.core.JsonToken.NOT_AVAILABLE;
+import static com.fasterxml.jackson.core.JsonToken.START_ARRAY;
+import static com.google.common.collect.Lists.newArrayList;
+import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_JSON;
+import static de.ingogriebsch.spring.hateoas.siren.SirenEntityWriter.ACTIONS;
+import static de.ingogriebsch.spring.hateoas.siren.SirenEntityWriter.ENTITIES;
+import static de.ingogriebsch.spring.hateoas.siren.SirenEntityWriter.LINKS;
+import static de.ingogriebsch.spring.hateoas.siren.SirenEntityWriter.PROPERTIES;
+import static de.ingogriebsch.spring.hateoas.siren.SirenNavigables.navigables;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.hateoas.Links;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * {@link Decoder} implementation which is able to decode a Siren entity into a {@link SirenDecodedCollectionModel} while it is
+ * received.
+ * <p>
+ * The entity is parsed through the non-blocking parser of the given {@link ObjectMapper}. Only the tokens of the member that is
+ * currently parsed are buffered, i.e. a single embedded entity, the links, the actions or the properties of the collection.
+ * Members that are not part of a {@link SirenDecodedCollectionModel} are skipped.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenDecodedCollectionModel
+ */
+@RequiredArgsConstructor
+class SirenDecodedCollectionModelDecoder implements Decoder<SirenDecodedCollectionModel<?>> {
+
+    private static final List<MimeType> MIME_TYPES = newArrayList(SIREN_JSON);
+    private static final TypeReference<Map<String, Object>> PROPERTIES_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<List<SirenLink>> LINKS_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<List<SirenAction>> ACTIONS_TYPE = new TypeReference<>() {
+    };
+
+    @NonNull
+    private final ObjectMapper objectMapper;
+    @NonNull
+    private final SirenLinkConverter linkConverter;
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        return SirenDecodedCollectionModel.class.isAssignableFrom(elementType.toClass())
+                && (mimeType == null || MIME_TYPES.stream().anyMatch(m -> m.isCompatibleWith(mimeType)));
+    }
+
+    @Override
+    public Flux<SirenDecodedCollectionModel<?>> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+        @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        return decodeToMono(inputStream, elementType, mimeType, hints).flux();
+    }
+
+    @Override
+    public Mono<SirenDecodedCollectionModel<?>> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+        @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        JavaType contentType = objectMapper.constructType(elementType.getGeneric(0).getType());
+        return Mono.fromSupplier(() -> decode(inputStream, contentType));
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes() {
+        return MIME_TYPES;
+    }
+
+    private SirenDecodedCollectionModel<?> decode(Publisher<DataBuffer> inputStream, JavaType contentType) {
+        Sinks.One<Links> links = Sinks.one();
+        Sinks.One<Map<String, Object>> properties = Sinks.one();
+
+        Flux<Object> content = Flux.defer(() -> {
+            CollectionParser parser = new CollectionParser(objectMapper.readerFor(contentType), links, properties);
+            return Flux.from(inputStream) //
+                .concatMapIterable(parser::parse) //
+                .concatWith(Flux.defer(parser::end)) //
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release) //
+                .doOnError(e -> {
+                    links.tryEmitError(e);
+                    properties.tryEmitError(e);
+                }) //
+                .doOnCancel(() -> {
+                    links.tryEmitEmpty();
+                    properties.tryEmitEmpty();
+                });
+        });
+
+        return new SirenDecodedCollectionModel<>(content, links.asMono(), properties.asMono());
+    }
+
+    /**
+     * Parses a single Siren entity. The tokens are tracked through the depth of the containers that are currently open, where
+     * the root entity itself has a depth of {@literal 1}.
+     */
+    private class CollectionParser {
+
+        private final ObjectReader contentReader;
+        private final Sinks.One<Links> links;
+        private final Sinks.One<Map<String, Object>> properties;
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+
+        private List<SirenLink> sirenLinks;
+        private List<SirenAction> sirenActions;
+        private String member;
+        private boolean inEntities;
+        private int depth;
+
+        private TokenBuffer buffer;
+        private int bufferDepth;
+
+        CollectionParser(ObjectReader contentReader, Sinks.One<Links> links, Sinks.One<Map<String, Object>> properties) {
+            this.contentReader = contentReader;
+            this.links = links;
+            this.properties = properties;
+            try {
+                this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                throw new DecodingException("Creating the parser for the Siren collection failed!", e);
+            }
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        List<Object> parse(DataBuffer dataBuffer) {
+            try {
+                byte[] bytes = new byte[dataBuffer.readableByteCount()];
+                dataBuffer.read(bytes);
+                feeder.feedInput(bytes, 0, bytes.length);
+                return next();
+            } catch (IOException e) {
+                throw new DecodingException("Decoding the Siren collection failed!", e);
+            } finally {
+                DataBufferUtils.release(dataBuffer);
+            }
+        }
+
+        Flux<Object> end() {
+            try {
+                feeder.endOfInput();
+                List<Object> content = next();
+                if (depth != 0 || buffer != null) {
+                    throw new DecodingException("The Siren collection ended unexpectedly!");
+                }
+
+                links.tryEmitValue(Links.of(linkConverter.from(navigables(orEmpty(sirenLinks), orEmpty(sirenActions)))));
+                properties.tryEmitEmpty();
+                return Flux.fromIterable(content);
+            } catch (IOException e) {
+                throw new DecodingException("Decoding the Siren collection failed!", e);
+            }
+        }
+
+        private List<Object> next() throws IOException {
+            List<Object> content = newArrayList();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != NOT_AVAILABLE) {
+                Object entity = next(token);
+                if (entity != null) {
+                    content.add(entity);
+                }
+            }
+            return content;
+        }
+
+        @Nullable
+        private Object next(JsonToken token) throws IOException {
+            if (buffer == null && !token.isStructEnd() && token != FIELD_NAME
+                    && (inEntities && depth == 2 || depth == 1 && isBuffered(member))) {
+                buffer = new TokenBuffer(parser);
+                bufferDepth = depth;
+            }
+
+            if (token.isStructStart()) {
+                depth++;
+                if (depth == 2 && token == START_ARRAY && ENTITIES.getValue().equals(member) && buffer == null) {
+                    inEntities = true;
+                }
+            } else if (token.isStructEnd()) {
+                depth--;
+                if (depth == 1 && token == END_ARRAY && inEntities) {
+                    inEntities = false;
+                }
+            } else if (token == FIELD_NAME && depth == 1) {
+                member = parser.currentName();
+            }
+
+            if (buffer == null) {
+                return null;
+            }
+
+            buffer.copyCurrentEvent(parser);
+            if (depth != bufferDepth) {
+                return null;
+            }
+
+            TokenBuffer completed = buffer;
+            buffer = null;
+            return completed(completed);
+        }
+
+        @Nullable
+        private Object completed(TokenBuffer tokens) throws IOException {
+            try (JsonParser value = tokens.asParser(objectMapper)) {
+                value.nextToken();
+                if (inEntities) {
+                    return contentReader.readValue(value);
+                }
+                if (PROPERTIES.getValue().equals(member)) {
+                    Map<String, Object> map = objectMapper.readValue(value, PROPERTIES_TYPE);
+                    if (map != null) {
+                        properties.tryEmitValue(map);
+                    }
+                } else if (LINKS.getValue().equals(member)) {
+                    sirenLinks = objectMapper.readValue(value, LINKS_TYPE);
+                } else if (ACTIONS.getValue().equals(member)) {
+                    sirenActions = objectMapper.readValue(value, ACTIONS_TYPE);
+                }
+                return null;
+            }
+        }
+    }
+
+    private static boolean isBuffered(@Nullable String member) {
+        return PROPERTIES.getValue().equals(member) || LINKS.getValue().equals(member) || ACTIONS.getValue().equals(member);
+    }
+
+    private static <T> List<T> orEmpty(@Nullable List<T> list) {
+        return list != null ? list : newArrayList();
+    }
+}
@@ -29,5 +29,6 @@ class SirenDeserializerFacilities {
     RepresentationModelFactories representationModelFactories;
     PropertiesFacility propertiesFacility;
     SirenLinkConverter linkConverter;
+    SirenMetrics metrics;
 
 }
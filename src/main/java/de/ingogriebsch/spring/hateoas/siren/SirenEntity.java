@@ -19,7 +19,6 @@ import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_EMPTY;
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 
 import java.util.List;
-import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -78,8 +77,7 @@ class SirenEntity {
 
         @Override
         public String[] getCodes() {
-            return Stream.of(type.getName(), type.getSimpleName(), "default").map(it -> String.format("_entity.%s.title", it))
-                .toArray(String[]::new);
+            return TypeMetadata.of(type).getTitleCodes();
         }
     }
 }
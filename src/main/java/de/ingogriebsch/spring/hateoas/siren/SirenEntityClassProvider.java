@@ -16,9 +16,6 @@
 package de.ingogriebsch.spring.hateoas.siren;
 
 import static com.google.common.collect.Lists.newArrayList;
-import static de.ingogriebsch.spring.hateoas.siren.RepresentationModelUtils.getRepresentationModelClass;
-import static org.apache.commons.lang3.StringUtils.substringBeforeLast;
-import static org.apache.commons.lang3.StringUtils.uncapitalize;
 
 import java.util.List;
 
@@ -50,8 +47,7 @@ public interface SirenEntityClassProvider {
      * @return the classes explaining the nature of the content of a Siren entity.
      */
     default List<String> get(@NonNull RepresentationModel<?> model) {
-        return newArrayList(
-            uncapitalize(substringBeforeLast(getRepresentationModelClass(model.getClass()).getSimpleName(), "Model")));
+        return newArrayList(TypeMetadata.of(model.getClass()).getDefaultClasses());
     }
 
 }
@@ -17,8 +17,6 @@ package de.ingogriebsch.spring.hateoas.siren;
 
 import static java.lang.String.format;
 
-import static com.fasterxml.jackson.core.JsonToken.END_OBJECT;
-import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
 import static com.fasterxml.jackson.databind.type.TypeFactory.defaultInstance;
 import static com.google.common.collect.MoreCollectors.toOptional;
 import static de.ingogriebsch.spring.hateoas.siren.RepresentationModelUtils.isRepresentationModel;
@@ -32,6 +30,7 @@ import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.lang.Nullable;
 
@@ -47,6 +46,9 @@ class SirenEntityModelDeserializer extends AbstractSirenDeserializer<EntityModel
     private static final long serialVersionUID = -3683235541542548855L;
     private static final JavaType TYPE = defaultInstance().constructType(EntityModel.class);
 
+    @Nullable
+    private final JsonDeserializer<Object> propertiesDeserializer;
+
     SirenEntityModelDeserializer(SirenConfiguration configuration, SirenDeserializerFacilities deserializerFacilities) {
         this(configuration, deserializerFacilities, TYPE);
     }
@@ -54,12 +56,20 @@ class SirenEntityModelDeserializer extends AbstractSirenDeserializer<EntityModel
     SirenEntityModelDeserializer(SirenConfiguration configuration, SirenDeserializerFacilities deserializerFacilities,
         JavaType contentType) {
         super(configuration, deserializerFacilities, contentType);
+        this.propertiesDeserializer = null;
+    }
+
+    private SirenEntityModelDeserializer(SirenConfiguration configuration, SirenDeserializerFacilities deserializerFacilities,
+        JavaType contentType, DeserializationContext ctxt) throws JsonMappingException {
+        super(configuration, deserializerFacilities, contentType, ctxt);
+        this.propertiesDeserializer = ctxt.findRootValueDeserializer(PROPERTIES_TYPE);
     }
 
     @Override
-    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, @Nullable BeanProperty property) {
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, @Nullable BeanProperty property)
+        throws JsonMappingException {
         JavaType contentType = property == null ? ctxt.getContextualType() : property.getType().getContentType();
-        return new SirenEntityModelDeserializer(configuration, deserializerFacilities, contentType);
+        return new SirenEntityModelDeserializer(configuration, deserializerFacilities, contentType, ctxt);
     }
 
     @Override
@@ -67,41 +77,39 @@ class SirenEntityModelDeserializer extends AbstractSirenDeserializer<EntityModel
         SirenEntityModelBuilder builder =
             SirenEntityModelBuilder.builder(contentType, getRepresentationModelFactories().forEntityModel(), getLinkConverter());
 
-        while (!END_OBJECT.equals(jp.nextToken())) {
-            if (FIELD_NAME.equals(jp.currentToken())) {
-                String text = jp.getText();
-                if ("properties".equals(text)) {
+        String name;
+        while ((name = jp.nextFieldName()) != null) {
+            switch (name) {
+                case PROPERTIES:
                     deserializeProperties(jp, ctxt, builder);
-                }
-
-                if ("entities".equals(text)) {
+                    break;
+                case ENTITIES:
                     builder.content(deserializeEntity(jp, ctxt));
-                }
-
-                if ("links".equals(text)) {
+                    break;
+                case LINKS:
                     builder.links(deserializeLinks(jp, ctxt));
-                }
-
-                if ("actions".equals(text)) {
+                    break;
+                case ACTIONS:
                     builder.actions(deserializeActions(jp, ctxt));
-                }
+                    break;
+                default:
+                    skipMember(jp);
             }
         }
+        verifyEndOfEntity(jp);
         return builder.build();
     }
 
     @SuppressWarnings("unchecked")
     private void deserializeProperties(JsonParser jp, DeserializationContext ctxt, SirenEntityModelBuilder builder)
         throws IOException {
-        JavaType containedType = obtainContainedType();
-        if (!isRepresentationModel(containedType.getRawClass())) {
-            JsonDeserializer<Object> deserializer = getDeserializer(containedType, jp, ctxt);
+        if (!isRepresentationModel(obtainContainedType().getRawClass())) {
+            JsonDeserializer<Object> deserializer = getContainedTypeDeserializer(jp, ctxt);
 
             jp.nextToken();
             builder.content(deserializer.deserialize(jp, ctxt));
         } else if (isRepresentationModelSubclass(contentType.getRawClass())) {
-            JavaType type = defaultInstance().constructMapType(Map.class, String.class, Object.class);
-            JsonDeserializer<Object> deserializer = getDeserializer(type, jp, ctxt);
+            JsonDeserializer<Object> deserializer = getDeserializer(propertiesDeserializer, PROPERTIES_TYPE, jp, ctxt);
 
             jp.nextToken();
             builder.properties((Map<String, Object>) deserializer.deserialize(jp, ctxt));
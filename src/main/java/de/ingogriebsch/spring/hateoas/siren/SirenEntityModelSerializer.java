@@ -15,9 +15,13 @@
  */
 package de.ingogriebsch.spring.hateoas.siren;
 
-import static com.google.common.collect.Lists.newArrayList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+
 import static de.ingogriebsch.spring.hateoas.siren.RepresentationModelUtils.isRepresentationModel;
 import static de.ingogriebsch.spring.hateoas.siren.RepresentationModelUtils.isRepresentationModelSubclass;
+import static de.ingogriebsch.spring.hateoas.siren.SirenProjection.Section.PROPERTIES;
 
 import java.io.IOException;
 import java.util.List;
@@ -27,6 +31,7 @@ import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.lang.Nullable;
 
 /**
@@ -58,25 +63,26 @@ class SirenEntityModelSerializer extends AbstractSirenSerializer<EntityModel<?>>
     public void serialize(EntityModel<?> model, JsonGenerator gen, SerializerProvider provider) throws IOException {
         assertSubclassingIsEnabledIfModelIsSubclassed(model);
 
-        SirenNavigables navigables = getLinkConverter().to(model.getLinks());
-
-        SirenEntity sirenEntity = SirenEntity.builder() //
-            .actions(navigables.getActions()) //
-            .classes(classes(model)) //
-            .links(navigables.getLinks()) //
-            .entities(entities(model)) //
-            .properties(properties(model)) //
-            .rels(rels(model, provider)) //
-            .title(title(model)) //
-            .build();
-
-        JsonSerializer<Object> serializer = provider.findValueSerializer(SirenEntity.class, property);
+        SirenSerializationContext context = context(provider);
+        List<LinkRelation> rels = rels(model, context);
 
-        Object parent = setAttribute(ATTR_KEY_PARENT, model, provider);
+        if (!enter(model, rels, context, gen)) {
+            return;
+        }
         try {
-            serializer.serialize(sirenEntity, gen, provider);
+            SirenNavigables navigables = navigables(model, context);
+            entityWriter(gen, provider) //
+                .start(model) //
+                .classes(classes(model)) //
+                .rels(rels) //
+                .properties(properties(model, context)) //
+                .entities(entities(context, entities(model))) //
+                .links(navigables.getLinks()) //
+                .actions(navigables.getActions()) //
+                .title(title(model, context)) //
+                .end();
         } finally {
-            setAttribute(ATTR_KEY_PARENT, parent, provider);
+            leave(context, gen);
         }
     }
 
@@ -89,29 +95,34 @@ class SirenEntityModelSerializer extends AbstractSirenSerializer<EntityModel<?>>
         }
     }
 
-    private String title(EntityModel<?> model) {
+    private String title(EntityModel<?> model, SirenSerializationContext context) {
         Object content = model.getContent();
         Class<?> contentType = content != null ? content.getClass() : model.getClass();
-        return super.title(!isRepresentationModel(contentType) ? contentType : model.getClass());
+        return super.title(!isRepresentationModel(contentType) ? contentType : model.getClass(), context);
     }
 
     private static List<Object> entities(EntityModel<?> model) {
         Object content = model.getContent();
         if (content != null && isRepresentationModel(content.getClass())) {
-            return newArrayList(content);
+            return singletonList(content);
         } else {
-            return newArrayList();
+            return emptyList();
         }
     }
 
-    private Object properties(EntityModel<?> model) {
+    private Object properties(EntityModel<?> model, SirenSerializationContext context) {
+        if (!context.projection().includes(PROPERTIES)) {
+            return null;
+        }
+
         Object content = model.getContent();
         if (content != null && !isRepresentationModel(content.getClass())) {
-            return model.getContent();
+            return projectedProperties(context, content);
         }
 
         if (isRepresentationModelSubclass(model.getClass())) {
-            return extractProperties(model, "content");
+            Object properties = writableProperties(context, model, "content");
+            return properties != null ? properties : emptyMap();
         }
 
         return null;
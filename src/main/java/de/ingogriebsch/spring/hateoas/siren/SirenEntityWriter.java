@@ -0,0 +1,274 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import de.ingogriebsch.spring.hateoas.siren.SirenAction.Field;
+import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Writer which streams the parts of a Siren entity straight into a {@link JsonGenerator}.
+ * <p>
+ * The writer renders the same structure a serialized {@link SirenEntity} would have without the need to build one upfront. The
+ * methods must be called in the order of the Siren entity members, i.e. {@literal class}, {@literal rel}, {@literal properties},
+ * {@literal entities}, {@literal links}, {@literal actions} and {@literal title}. Members that are {@literal null} or empty are
+ * omitted the same way {@link SirenEntity}, {@link SirenLink} and {@link SirenAction} define it.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenEntity
+ */
+@RequiredArgsConstructor(access = PRIVATE)
+class SirenEntityWriter {
+
+    static final SerializedString CLASS = new SerializedString("class");
+    static final SerializedString REL = new SerializedString("rel");
+    static final SerializedString PROPERTIES = new SerializedString("properties");
+    static final SerializedString ENTITIES = new SerializedString("entities");
+    static final SerializedString LINKS = new SerializedString("links");
+    static final SerializedString ACTIONS = new SerializedString("actions");
+    static final SerializedString TITLE = new SerializedString("title");
+    static final SerializedString HREF = new SerializedString("href");
+    static final SerializedString TYPE = new SerializedString("type");
+    static final SerializedString NAME = new SerializedString("name");
+    static final SerializedString METHOD = new SerializedString("method");
+    static final SerializedString FIELDS = new SerializedString("fields");
+    static final SerializedString VALUE = new SerializedString("value");
+
+    private final JsonGenerator gen;
+    private final SerializerProvider provider;
+    private final DynamicValueSerializers serializers;
+
+    static SirenEntityWriter entityWriter(JsonGenerator gen, SerializerProvider provider, DynamicValueSerializers serializers) {
+        return new SirenEntityWriter(gen, provider, serializers);
+    }
+
+    SirenEntityWriter start(Object model) throws IOException {
+        gen.writeStartObject(model);
+        return this;
+    }
+
+    SirenEntityWriter classes(@Nullable List<String> classes) throws IOException {
+        writeStrings(CLASS, classes);
+        return this;
+    }
+
+    SirenEntityWriter rels(@Nullable List<LinkRelation> rels) throws IOException {
+        if (rels == null || rels.isEmpty()) {
+            return this;
+        }
+
+        gen.writeFieldName(REL);
+        gen.writeStartArray(rels, rels.size());
+        for (LinkRelation rel : rels) {
+            gen.writeString(rel.value());
+        }
+        gen.writeEndArray();
+        return this;
+    }
+
+    SirenEntityWriter properties(@Nullable Object properties) throws IOException {
+        if (properties == null) {
+            return this;
+        }
+
+        // The properties are mostly read from the underlying object while they are written, so the event and the server timing
+        // cover the writing.
+        SirenServerTimings timings = (SirenServerTimings) provider.getAttribute(SirenServerTimings.class);
+        long start = timings != null ? System.nanoTime() : 0;
+        SirenEvents.PropertiesExtraction event = new SirenEvents.PropertiesExtraction();
+        event.begin();
+
+        gen.writeFieldName(PROPERTIES);
+        writeValue(properties);
+
+        if (timings != null) {
+            timings.properties(System.nanoTime() - start);
+        }
+        if (event.shouldCommit()) {
+            event.type = PropertiesFacility.type(properties);
+            event.properties = PropertiesFacility.count(properties);
+            event.commit();
+        }
+        return this;
+    }
+
+    SirenEntityWriter entities(@Nullable Iterable<?> entities) throws IOException {
+        if (entities == null) {
+            return this;
+        }
+
+        Iterator<?> iterator = entities.iterator();
+        if (!iterator.hasNext()) {
+            return this;
+        }
+
+        gen.writeFieldName(ENTITIES);
+        gen.writeStartArray();
+        while (iterator.hasNext()) {
+            writeValue(iterator.next());
+        }
+        gen.writeEndArray();
+        return this;
+    }
+
+    SirenEntityWriter links(@Nullable List<SirenLink> links) throws IOException {
+        if (links == null || links.isEmpty()) {
+            return this;
+        }
+
+        gen.writeFieldName(LINKS);
+        gen.writeStartArray(links, links.size());
+        for (SirenLink link : links) {
+            writeLink(link);
+        }
+        gen.writeEndArray();
+        return this;
+    }
+
+    SirenEntityWriter actions(@Nullable List<SirenAction> actions) throws IOException {
+        if (actions == null || actions.isEmpty()) {
+            return this;
+        }
+
+        gen.writeFieldName(ACTIONS);
+        gen.writeStartArray(actions, actions.size());
+        for (SirenAction action : actions) {
+            writeAction(action);
+        }
+        gen.writeEndArray();
+        return this;
+    }
+
+    SirenEntityWriter title(@Nullable String title) throws IOException {
+        writeString(TITLE, title);
+        return this;
+    }
+
+    void end() throws IOException {
+        gen.writeEndObject();
+    }
+
+    private void writeLink(SirenLink link) throws IOException {
+        gen.writeStartObject(link);
+
+        List<String> rels = link.getRels();
+        gen.writeFieldName(REL);
+        gen.writeStartArray(rels, rels.size());
+        for (String rel : rels) {
+            gen.writeString(rel);
+        }
+        gen.writeEndArray();
+
+        writeStrings(CLASS, link.getClasses());
+
+        gen.writeFieldName(HREF);
+        gen.writeString(link.getHref());
+
+        writeString(TITLE, link.getTitle());
+        writeString(TYPE, link.getType());
+
+        gen.writeEndObject();
+    }
+
+    private void writeAction(SirenAction action) throws IOException {
+        gen.writeStartObject(action);
+
+        gen.writeFieldName(NAME);
+        gen.writeString(action.getName());
+
+        writeStrings(CLASS, action.getClasses());
+
+        gen.writeFieldName(METHOD);
+        gen.writeString(action.getMethod().name());
+
+        gen.writeFieldName(HREF);
+        gen.writeString(action.getHref());
+
+        writeString(TITLE, action.getTitle());
+        writeString(TYPE, action.getType());
+
+        List<Field> fields = action.getFields();
+        if (fields != null && !fields.isEmpty()) {
+            gen.writeFieldName(FIELDS);
+            gen.writeStartArray(fields, fields.size());
+            for (Field field : fields) {
+                writeField(field);
+            }
+            gen.writeEndArray();
+        }
+
+        gen.writeEndObject();
+    }
+
+    private void writeField(Field field) throws IOException {
+        gen.writeStartObject(field);
+
+        gen.writeFieldName(NAME);
+        gen.writeString(field.getName());
+
+        writeStrings(CLASS, field.getClasses());
+        writeString(TYPE, field.getType());
+
+        Object value = field.getValue();
+        if (value != null) {
+            gen.writeFieldName(VALUE);
+            writeValue(value);
+        }
+
+        writeString(TITLE, field.getTitle());
+
+        gen.writeEndObject();
+    }
+
+    private void writeString(SerializedString name, @Nullable String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    private void writeStrings(SerializedString name, @Nullable List<String> values) throws IOException {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+
+        gen.writeFieldName(name);
+        gen.writeStartArray(values, values.size());
+        for (String value : values) {
+            gen.writeString(value);
+        }
+        gen.writeEndArray();
+    }
+
+    private void writeValue(@Nullable Object value) throws IOException {
+        if (value == null) {
+            provider.defaultSerializeNull(gen);
+            return;
+        }
+        serializers.find(value.getClass(), provider).serialize(value, gen, provider);
+    }
+}
@@ -0,0 +1,179 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.NoArgsConstructor;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.lang.Nullable;
+
+/**
+ * Java Flight Recorder events emitted while Siren entities are serialized and deserialized.
+ * <p>
+ * All events are disabled by default and need to be enabled explicitly, e.g. through the settings of a recording. Each event is
+ * created and {@link Event#begin() begun} in front of the phase it measures but only populated and committed if
+ * {@link Event#shouldCommit()} allows it, so that a disabled event costs (nearly) nothing.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class SirenEvents {
+
+    private static final String CATEGORY = "Siren";
+
+    /**
+     * Event covering the serialization of a whole document, i.e. of a root entity including all its embedded entities.
+     */
+    @Category(CATEGORY)
+    @Description("Serialization of a Siren document")
+    @Enabled(false)
+    @Label("Siren Serialization")
+    @Name("de.ingogriebsch.spring.hateoas.siren.Serialization")
+    @StackTrace(false)
+    static class Serialization extends Event {
+
+        @Label("Model Kind")
+        String modelKind;
+
+        @Label("Model Type")
+        Class<?> modelType;
+
+        @Label("Embedded Entities")
+        int entities;
+
+        @Label("Links")
+        int links;
+
+        @Label("Actions")
+        int actions;
+
+        @Label("Depth")
+        int depth;
+    }
+
+    /**
+     * Event covering the deserialization of a whole document, i.e. of a root entity including all its embedded entities.
+     */
+    @Category(CATEGORY)
+    @Description("Deserialization of a Siren document")
+    @Enabled(false)
+    @Label("Siren Deserialization")
+    @Name("de.ingogriebsch.spring.hateoas.siren.Deserialization")
+    @StackTrace(false)
+    static class Deserialization extends Event {
+
+        @Label("Model Kind")
+        String modelKind;
+
+        @Label("Model Type")
+        Class<?> modelType;
+
+        @Label("Entities")
+        int entities;
+
+        @Label("Links")
+        int links;
+    }
+
+    /**
+     * Event covering the conversion of the links (and their affordances) of a model into Siren links and actions.
+     */
+    @Category(CATEGORY)
+    @Description("Conversion of links and affordances into Siren links and actions")
+    @Enabled(false)
+    @Label("Siren Link Conversion")
+    @Name("de.ingogriebsch.spring.hateoas.siren.LinkConversion")
+    @StackTrace(false)
+    static class LinkConversion extends Event {
+
+        @Label("Links")
+        int links;
+
+        @Label("Actions")
+        int actions;
+    }
+
+    /**
+     * Event covering the extraction of the properties of an object, either while they are written as the properties of a Siren
+     * entity or while they are converted into a map upfront. The latter only applies to objects that are not serialized through
+     * a plain bean serializer and is followed by an event for writing the map.
+     */
+    @Category(CATEGORY)
+    @Description("Extraction of the properties of a Siren entity")
+    @Enabled(false)
+    @Label("Siren Properties Extraction")
+    @Name("de.ingogriebsch.spring.hateoas.siren.PropertiesExtraction")
+    @StackTrace(false)
+    static class PropertiesExtraction extends Event {
+
+        @Label("Type")
+        Class<?> type;
+
+        @Label("Properties")
+        @Description("The number of properties or -1 if not known before they are written")
+        int properties;
+    }
+
+    /**
+     * Event covering the resolution of the title of a Siren entity, link, action or field.
+     */
+    @Category(CATEGORY)
+    @Description("Resolution of the title of a Siren entity, link, action or field")
+    @Enabled(false)
+    @Label("Siren Title Resolution")
+    @Name("de.ingogriebsch.spring.hateoas.siren.TitleResolution")
+    @StackTrace(false)
+    static class TitleResolution extends Event {
+
+        @Label("Code")
+        String code;
+
+        @Label("Resolved")
+        boolean resolved;
+
+        /**
+         * Resolves the title through the given resolver and emits an event covering the resolution.
+         *
+         * @param resolver the resolver to resolve the title with.
+         * @param resolvable the resolvable describing the title.
+         * @return the resolved title or {@literal null} if not resolvable.
+         */
+        @Nullable
+        static String resolve(MessageResolver resolver, MessageSourceResolvable resolvable) {
+            TitleResolution event = new TitleResolution();
+            event.begin();
+
+            String title = resolver.resolve(resolvable);
+            if (event.shouldCommit()) {
+                String[] codes = resolvable.getCodes();
+                event.code = codes != null && codes.length > 0 ? codes[0] : null;
+                event.resolved = title != null;
+                event.commit();
+            }
+            return title;
+        }
+    }
+}
@@ -16,9 +16,11 @@
 package de.ingogriebsch.spring.hateoas.siren;
 
 import static org.springframework.beans.BeanUtils.instantiateClass;
+import static org.springframework.beans.factory.config.ConfigurableBeanFactory.SCOPE_PROTOTYPE;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.JsonDeserializer;
@@ -27,14 +29,26 @@ import com.fasterxml.jackson.databind.KeyDeserializer;
 import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.cfg.HandlerInstantiator;
 import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
 import com.fasterxml.jackson.databind.introspect.Annotated;
 import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
 import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.context.annotation.Scope;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.lang.Nullable;
 
 /**
  * {@link HandlerInstantiator} to create and configure Siren specific serializers and deserializers.
+ * <p>
+ * Other serializers, deserializers and key deserializers are created once per class and shared afterwards, the same way the
+ * Siren specific ones are. A handler class annotated with {@literal @Scope("prototype")} opts out and is created for each lookup,
+ * the same way as a {@link ResolvableSerializer} or {@link ResolvableDeserializer} is, because Jackson resolves it in place for
+ * the property it is used on.
+ * Type resolver builders and type id resolvers are always created for each lookup, because Jackson initializes them per type.
  *
  * @author Ingo Griebsch
  * @since 1.0.0
@@ -43,6 +57,7 @@ import org.springframework.lang.Nullable;
 class SirenHandlerInstantiator extends HandlerInstantiator {
 
     private final Map<Class<?>, Object> serializers = new HashMap<>();
+    private final Map<Class<?>, Supplier<Object>> handlers = new ConcurrentHashMap<>();
     private final AutowireCapableBeanFactory beanFactory;
 
     SirenHandlerInstantiator(SirenConfiguration configuration, SirenSerializerFacilities serializerFacilities,
@@ -84,17 +99,17 @@ class SirenHandlerInstantiator extends HandlerInstantiator {
      */
     @Override
     public JsonDeserializer<?> deserializerInstance(DeserializationConfig config, Annotated annotated, Class<?> deserClass) {
-        return (JsonDeserializer<?>) findInstance(deserClass);
+        return (JsonDeserializer<?>) findSharedInstance(deserClass);
     }
 
     @Override
     public KeyDeserializer keyDeserializerInstance(DeserializationConfig config, Annotated annotated, Class<?> keyDeserClass) {
-        return (KeyDeserializer) findInstance(keyDeserClass);
+        return (KeyDeserializer) findSharedInstance(keyDeserClass);
     }
 
     @Override
     public JsonSerializer<?> serializerInstance(SerializationConfig config, Annotated annotated, Class<?> serClass) {
-        return (JsonSerializer<?>) findInstance(serClass);
+        return (JsonSerializer<?>) findSharedInstance(serClass);
     }
 
     @Override
@@ -108,17 +123,43 @@ class SirenHandlerInstantiator extends HandlerInstantiator {
         return (TypeIdResolver) findInstance(resolverClass);
     }
 
-    @Nullable
+    private Object findSharedInstance(Class<?> type) {
+        Object result = serializers.get(type);
+        if (result != null) {
+            return result;
+        }
+
+        if (isPrototype(type) || isResolvable(type)) {
+            return createInstance(type);
+        }
+
+        // The instance is created through a memoizing holder instead of inside computeIfAbsent(), because the creation may
+        // look up further handlers through the bean factory. The holder makes sure that the instance is created exactly once.
+        return handlers.computeIfAbsent(type, t -> Suppliers.memoize(() -> createInstance(t))).get();
+    }
+
     private Object findInstance(Class<?> type) {
         Object result = serializers.get(type);
         if (result != null) {
             return result;
         }
+        return createInstance(type);
+    }
 
+    private Object createInstance(Class<?> type) {
         if (beanFactory != null) {
             return beanFactory.createBean(type);
         }
 
         return instantiateClass(type);
     }
+
+    private static boolean isResolvable(Class<?> type) {
+        return ResolvableSerializer.class.isAssignableFrom(type) || ResolvableDeserializer.class.isAssignableFrom(type);
+    }
+
+    private static boolean isPrototype(Class<?> type) {
+        Scope scope = AnnotatedElementUtils.findMergedAnnotation(type, Scope.class);
+        return scope != null && SCOPE_PROTOTYPE.equals(scope.scopeName());
+    }
 }
@@ -26,17 +26,25 @@ import static org.springframework.http.HttpMethod.GET;
 import static org.springframework.http.MediaType.APPLICATION_FORM_URLENCODED;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import de.ingogriebsch.spring.hateoas.siren.SirenAction.Field;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.AffordanceModel.InputPayloadMetadata;
+import org.springframework.hateoas.AffordanceModel.PayloadMetadata;
 import org.springframework.hateoas.AffordanceModel.PropertyMetadata;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.mediatype.MessageResolver;
 import org.springframework.hateoas.mediatype.html.HtmlInputType;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 
 /**
@@ -50,11 +58,39 @@ import org.springframework.http.MediaType;
 @RequiredArgsConstructor
 class SirenLinkConverter {
 
+    private static final long ACTION_CACHE_MAXIMUM_SIZE = 1000;
+
     private final MessageResolver messageResolver;
     private final SirenActionFieldTypeConverter sirenActionFieldTypeConverter;
+    private final Cache<ActionKey, SirenAction> actionCache =
+        CacheBuilder.newBuilder().maximumSize(ACTION_CACHE_MAXIMUM_SIZE).build();
 
     SirenNavigables to(Iterable<Link> links) {
-        return SirenNavigables.merge(stream(links.spliterator(), false).map(this::convert).collect(toList()));
+        return to(links, rel -> true, name -> true);
+    }
+
+    /**
+     * Converts the given links into a {@link SirenNavigables}, skipping the links and actions that are not accepted by the given
+     * filters. Skipped links and actions are not converted at all, i.e. neither their titles nor the fields of the actions are
+     * resolved.
+     *
+     * @param links the links to convert.
+     * @param linkFilter the filter deciding by rel which links are converted.
+     * @param actionFilter the filter deciding by name which actions are converted.
+     * @return the converted links and actions.
+     */
+    SirenNavigables to(Iterable<Link> links, Predicate<LinkRelation> linkFilter, Predicate<String> actionFilter) {
+        SirenEvents.LinkConversion event = new SirenEvents.LinkConversion();
+        event.begin();
+
+        SirenNavigables navigables = SirenNavigables
+            .merge(stream(links.spliterator(), false).map(l -> convert(l, linkFilter, actionFilter)).collect(toList()));
+        if (event.shouldCommit()) {
+            event.links = navigables.getLinks().size();
+            event.actions = navigables.getActions().size();
+            event.commit();
+        }
+        return navigables;
     }
 
     List<Link> from(SirenNavigables navigables) {
@@ -62,7 +98,11 @@ class SirenLinkConverter {
     }
 
     SirenNavigables convert(Link link) {
-        return SirenNavigables.of(links(link), actions(link));
+        return SirenNavigables.of(links(link), actions(link, name -> true));
+    }
+
+    void invalidate() {
+        actionCache.invalidateAll();
     }
 
     private Link convert(SirenNavigables navigables) {
@@ -75,6 +115,11 @@ class SirenLinkConverter {
             .withType(link.getType());
     }
 
+    private SirenNavigables convert(Link link, Predicate<LinkRelation> linkFilter, Predicate<String> actionFilter) {
+        List<SirenLink> links = linkFilter.test(link.getRel()) ? links(link) : newArrayList();
+        return SirenNavigables.of(links, actions(link, actionFilter));
+    }
+
     private List<SirenLink> links(Link link) {
         SirenLink sirenLink = SirenLink.builder() //
             .rel(link.getRel().value()) //
@@ -86,10 +131,10 @@ class SirenLinkConverter {
         return newArrayList(sirenLink);
     }
 
-    private List<SirenAction> actions(Link link) {
+    private List<SirenAction> actions(Link link, Predicate<String> filter) {
         List<SirenAction> result = newArrayList();
         for (SirenAffordanceModel model : affordanceModels(link)) {
-            if (!GET.equals(model.getHttpMethod())) {
+            if (!GET.equals(model.getHttpMethod()) && filter.test(model.getName())) {
                 result.add(action(model));
             }
         }
@@ -97,6 +142,21 @@ class SirenLinkConverter {
     }
 
     private SirenAction action(SirenAffordanceModel model) {
+        // The metadata of an affordance is static per handler method, so only the href needs to be bound per link. The field
+        // types depend on the mappings of the field type converter though, so actions converted with other mappings are not
+        // reused.
+        ActionKey key = ActionKey.of(model.getName(), model.getHttpMethod(), model.getInput(), model.getOutput(),
+            LocaleContextHolder.getLocale(), fieldTypeMappingCount());
+
+        SirenAction action = actionCache.getIfPresent(key);
+        if (action == null) {
+            action = template(model);
+            actionCache.put(key, action);
+        }
+        return action.withHref(model.getLink().getHref());
+    }
+
+    private SirenAction template(SirenAffordanceModel model) {
         MediaType type = actionType(model, fieldsAvailable(model));
         List<Field> fields = fields(model, type);
 
@@ -145,7 +205,7 @@ class SirenLinkConverter {
     }
 
     private String title(MessageSourceResolvable resolvable) {
-        return messageResolver.resolve(resolvable);
+        return SirenEvents.TitleResolution.resolve(messageResolver, resolvable);
     }
 
     private String fieldType(PropertyMetadata propertyMetadata, MediaType actionType) {
@@ -155,7 +215,7 @@ class SirenLinkConverter {
     }
 
     private static boolean fieldsAvailable(SirenAffordanceModel model) {
-        return model.getInput().stream().count() > 0;
+        return model.getInput().stream().findAny().isPresent();
     }
 
     private static MediaType actionType(SirenAffordanceModel model, boolean fieldsAvailable) {
@@ -176,4 +236,20 @@ class SirenLinkConverter {
         return link.getAffordances().stream().map(a -> a.getAffordanceModel(SIREN_JSON)).map(SirenAffordanceModel.class::cast)
             .collect(toList());
     }
+
+    private int fieldTypeMappingCount() {
+        return sirenActionFieldTypeConverter instanceof TypeBasedSirenActionFieldTypeConverter
+            ? ((TypeBasedSirenActionFieldTypeConverter) sirenActionFieldTypeConverter).mappingCount() : 0;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class ActionKey {
+
+        String name;
+        HttpMethod method;
+        InputPayloadMetadata input;
+        PayloadMetadata output;
+        Locale locale;
+        int fieldTypeMappingCount;
+    }
 }
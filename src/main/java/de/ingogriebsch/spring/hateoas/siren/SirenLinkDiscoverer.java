@@ -15,25 +15,174 @@
  */
 package de.ingogriebsch.spring.hateoas.siren;
 
+import static com.google.common.collect.Lists.newArrayList;
 import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_JSON;
 
-import org.springframework.hateoas.client.JsonPathLinkDiscoverer;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+import lombok.NonNull;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.Links;
 import org.springframework.hateoas.client.LinkDiscoverer;
+import org.springframework.http.MediaType;
 
 /**
  * {@link LinkDiscoverer} implementation that is based on the Siren link structure.
+ * <p>
+ * The discoverer streams over the tokens of the given document instead of building a model of it upfront. By default only the
+ * {@literal links} of the root entity are considered, the sub-entities are skipped and the search for a single link stops as
+ * soon as a link with the requested relation is found. If the links of the sub-entities should be considered as well, the
+ * discoverer must be created through {@link #SirenLinkDiscoverer(boolean)}.
+ * <p>
+ * If several links are looked up in the same document, the document should be read only once through one of the
+ * {@literal index} methods.
  *
  * @author Ingo Griebsch
  * @since 1.0.0
  * @see LinkDiscoverer
+ * @see SirenLinkIndex
  */
-public class SirenLinkDiscoverer extends JsonPathLinkDiscoverer {
+public class SirenLinkDiscoverer implements LinkDiscoverer {
+
+    private final boolean nestedLinksIncluded;
 
     /**
-     * Constructor for {@link MediaTypes#SIREN_JSON}.
+     * Constructor for {@link MediaTypes#SIREN_JSON} which only discovers the links of the root entity.
      */
     public SirenLinkDiscoverer() {
-        super("$..links[?('%s' in @.rel)].href", SIREN_JSON);
+        this(false);
+    }
+
+    /**
+     * Constructor for {@link MediaTypes#SIREN_JSON}.
+     *
+     * @param nestedLinksIncluded whether the links of the sub-entities should be discovered as well.
+     * @since 1.4.0
+     */
+    public SirenLinkDiscoverer(boolean nestedLinksIncluded) {
+        this.nestedLinksIncluded = nestedLinksIncluded;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.hateoas.client.LinkDiscoverer#findLinkWithRel(org.springframework.hateoas.LinkRelation,
+     * java.lang.String)
+     */
+    @Override
+    public Optional<Link> findLinkWithRel(@NonNull LinkRelation rel, @NonNull String representation) {
+        LinkCollector collector = new LinkCollector(rel, true);
+        SirenLinkReader.read(representation, nestedLinksIncluded, collector);
+        return collector.first();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.hateoas.client.LinkDiscoverer#findLinkWithRel(org.springframework.hateoas.LinkRelation,
+     * java.io.InputStream)
+     */
+    @Override
+    public Optional<Link> findLinkWithRel(@NonNull LinkRelation rel, @NonNull InputStream representation) {
+        LinkCollector collector = new LinkCollector(rel, true);
+        SirenLinkReader.read(representation, nestedLinksIncluded, collector);
+        return collector.first();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.hateoas.client.LinkDiscoverer#findLinksWithRel(org.springframework.hateoas.LinkRelation,
+     * java.lang.String)
+     */
+    @Override
+    public Links findLinksWithRel(@NonNull LinkRelation rel, @NonNull String representation) {
+        LinkCollector collector = new LinkCollector(rel, false);
+        SirenLinkReader.read(representation, nestedLinksIncluded, collector);
+        return collector.all();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.hateoas.client.LinkDiscoverer#findLinksWithRel(org.springframework.hateoas.LinkRelation,
+     * java.io.InputStream)
+     */
+    @Override
+    public Links findLinksWithRel(@NonNull LinkRelation rel, @NonNull InputStream representation) {
+        LinkCollector collector = new LinkCollector(rel, false);
+        SirenLinkReader.read(representation, nestedLinksIncluded, collector);
+        return collector.all();
+    }
+
+    /**
+     * Reads the given document once and returns an index of the links it contains.
+     *
+     * @param representation must not be {@literal null}.
+     * @return the index, never {@literal null}.
+     * @since 1.4.0
+     */
+    public SirenLinkIndex index(@NonNull String representation) {
+        return SirenLinkIndex.of(representation, nestedLinksIncluded);
+    }
+
+    /**
+     * Reads the given document once and returns an index of the links it contains.
+     *
+     * @param representation must not be {@literal null}.
+     * @return the index, never {@literal null}.
+     * @since 1.4.0
+     */
+    public SirenLinkIndex index(@NonNull byte[] representation) {
+        return SirenLinkIndex.of(representation, nestedLinksIncluded);
+    }
+
+    /**
+     * Reads the given document once and returns an index of the links it contains. The stream is not closed.
+     *
+     * @param representation must not be {@literal null}.
+     * @return the index, never {@literal null}.
+     * @since 1.4.0
+     */
+    public SirenLinkIndex index(@NonNull InputStream representation) {
+        return SirenLinkIndex.of(representation, nestedLinksIncluded);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
+     */
+    @Override
+    public boolean supports(@NonNull MediaType delimiter) {
+        return SIREN_JSON.isCompatibleWith(delimiter);
+    }
+
+    private static class LinkCollector implements SirenLinkReader.LinkHandler {
+
+        private final LinkRelation rel;
+        private final boolean firstOnly;
+        private final List<Link> links = newArrayList();
+
+        LinkCollector(LinkRelation rel, boolean firstOnly) {
+            this.rel = rel;
+            this.firstOnly = firstOnly;
+        }
+
+        @Override
+        public boolean handle(List<String> rels, String href, String title, String type) {
+            if (!rels.contains(rel.value())) {
+                return false;
+            }
+
+            links.add(Link.of(href, rel).withTitle(title).withType(type));
+            return firstOnly;
+        }
+
+        Optional<Link> first() {
+            return links.isEmpty() ? Optional.empty() : Optional.of(links.get(0));
+        }
+
+        Links all() {
+            return Links.of(links);
+        }
+    }
 }
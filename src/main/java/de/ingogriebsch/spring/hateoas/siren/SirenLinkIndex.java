@@ -0,0 +1,154 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static java.util.Collections.unmodifiableMap;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newLinkedHashMap;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import lombok.NonNull;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.Links;
+
+/**
+ * Index of the links of a Siren entity, grouped by their relation.
+ * <p>
+ * The document is read once while the index is built, every lookup afterwards is answered from the index without touching the
+ * document again. A Siren link carrying several relations is indexed as one {@link Link} per relation. An index is immutable and
+ * therefore safe to be shared between threads.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenLinkDiscoverer#index(String)
+ */
+public final class SirenLinkIndex {
+
+    private static final SirenLinkIndex EMPTY = new SirenLinkIndex(Map.of(), Links.NONE);
+
+    private final Map<String, Links> linksByRel;
+    private final Links links;
+
+    private SirenLinkIndex(Map<String, Links> linksByRel, Links links) {
+        this.linksByRel = linksByRel;
+        this.links = links;
+    }
+
+    static SirenLinkIndex of(String source, boolean nestedLinksIncluded) {
+        Builder builder = new Builder();
+        SirenLinkReader.read(source, nestedLinksIncluded, builder);
+        return builder.build();
+    }
+
+    static SirenLinkIndex of(byte[] source, boolean nestedLinksIncluded) {
+        Builder builder = new Builder();
+        SirenLinkReader.read(source, nestedLinksIncluded, builder);
+        return builder.build();
+    }
+
+    static SirenLinkIndex of(InputStream source, boolean nestedLinksIncluded) {
+        Builder builder = new Builder();
+        SirenLinkReader.read(source, nestedLinksIncluded, builder);
+        return builder.build();
+    }
+
+    /**
+     * Returns the first link with the given relation.
+     *
+     * @param rel must not be {@literal null}.
+     * @return the link or an empty {@link Optional} if no link with the given relation is available.
+     */
+    public Optional<Link> findLinkWithRel(@NonNull LinkRelation rel) {
+        return findLinkWithRel(rel.value());
+    }
+
+    /**
+     * Returns the first link with the given relation.
+     *
+     * @param rel must not be {@literal null}.
+     * @return the link or an empty {@link Optional} if no link with the given relation is available.
+     */
+    public Optional<Link> findLinkWithRel(@NonNull String rel) {
+        Links result = linksByRel.get(rel);
+        return result != null ? Optional.of(result.toList().get(0)) : Optional.empty();
+    }
+
+    /**
+     * Returns all links with the given relation in the order they appear in the document.
+     *
+     * @param rel must not be {@literal null}.
+     * @return the links, never {@literal null}.
+     */
+    public Links findLinksWithRel(@NonNull LinkRelation rel) {
+        return findLinksWithRel(rel.value());
+    }
+
+    /**
+     * Returns all links with the given relation in the order they appear in the document.
+     *
+     * @param rel must not be {@literal null}.
+     * @return the links, never {@literal null}.
+     */
+    public Links findLinksWithRel(@NonNull String rel) {
+        return linksByRel.getOrDefault(rel, Links.NONE);
+    }
+
+    /**
+     * Returns all indexed links in the order they appear in the document.
+     *
+     * @return the links, never {@literal null}.
+     */
+    public Links getLinks() {
+        return links;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SirenLinkIndex(links=%s)", links);
+    }
+
+    private static class Builder implements SirenLinkReader.LinkHandler {
+
+        private final Map<String, List<Link>> linksByRel = newLinkedHashMap();
+        private final List<Link> links = newArrayList();
+
+        @Override
+        public boolean handle(List<String> rels, String href, String title, String type) {
+            for (String rel : rels) {
+                Link link = Link.of(href, rel).withTitle(title).withType(type);
+                linksByRel.computeIfAbsent(rel, r -> newArrayList()).add(link);
+                links.add(link);
+            }
+            return false;
+        }
+
+        SirenLinkIndex build() {
+            if (links.isEmpty()) {
+                return EMPTY;
+            }
+
+            Map<String, Links> result = newLinkedHashMap();
+            linksByRel.forEach((rel, l) -> result.put(rel, Links.of(l)));
+            return new SirenLinkIndex(unmodifiableMap(result), Links.of(links));
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static com.fasterxml.jackson.core.JsonToken.END_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.END_OBJECT;
+import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
+import static com.fasterxml.jackson.core.JsonToken.START_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_STRING;
+import static com.google.common.collect.Lists.newArrayList;
+import static lombok.AccessLevel.PRIVATE;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.NoArgsConstructor;
+import org.springframework.lang.Nullable;
+
+/**
+ * Reader which streams over the tokens of a Siren entity and hands the links it contains to a {@link LinkHandler}.
+ * <p>
+ * Only the {@literal links} of the root entity are read unless the links of the sub-entities are requested as well. All other
+ * members are skipped without building a model of them.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenLinkDiscoverer
+ * @see SirenLinkIndex
+ */
+@NoArgsConstructor(access = PRIVATE)
+class SirenLinkReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String LINKS = "links";
+    private static final String ENTITIES = "entities";
+    private static final String REL = "rel";
+    private static final String HREF = "href";
+    private static final String TITLE = "title";
+    private static final String TYPE = "type";
+
+    static void read(String source, boolean nestedLinksIncluded, LinkHandler handler) {
+        try (JsonParser parser = JSON_FACTORY.createParser(source)) {
+            read(parser, nestedLinksIncluded, handler);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void read(byte[] source, boolean nestedLinksIncluded, LinkHandler handler) {
+        try (JsonParser parser = JSON_FACTORY.createParser(source)) {
+            read(parser, nestedLinksIncluded, handler);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void read(InputStream source, boolean nestedLinksIncluded, LinkHandler handler) {
+        // The stream is owned by the caller, so it must not be closed together with the parser.
+        try (JsonParser parser = JSON_FACTORY.createParser(source)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            read(parser, nestedLinksIncluded, handler);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void read(JsonParser parser, boolean nestedLinksIncluded, LinkHandler handler) throws IOException {
+        if (parser.nextToken() == START_OBJECT) {
+            entity(parser, nestedLinksIncluded, handler);
+        }
+    }
+
+    /**
+     * Walks over the members of the entity the parser currently points to.
+     *
+     * @return {@literal true} if the handler finished the reading, {@literal false} otherwise.
+     */
+    private static boolean entity(JsonParser parser, boolean nestedLinksIncluded, LinkHandler handler) throws IOException {
+        while (parser.nextToken() == FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+
+            if (LINKS.equals(name) && token == START_ARRAY) {
+                if (links(parser, handler)) {
+                    return true;
+                }
+            } else if (nestedLinksIncluded && ENTITIES.equals(name) && token == START_ARRAY) {
+                if (entities(parser, handler)) {
+                    return true;
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return false;
+    }
+
+    private static boolean entities(JsonParser parser, LinkHandler handler) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != END_ARRAY && token != null) {
+            if (token != START_OBJECT) {
+                parser.skipChildren();
+            } else if (entity(parser, true, handler)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean links(JsonParser parser, LinkHandler handler) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != END_ARRAY && token != null) {
+            if (token != START_OBJECT) {
+                parser.skipChildren();
+            } else if (link(parser, handler)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean link(JsonParser parser, LinkHandler handler) throws IOException {
+        List<String> rels = null;
+        String href = null;
+        String title = null;
+        String type = null;
+
+        while (parser.nextToken() == FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+
+            if (REL.equals(name) && token == START_ARRAY) {
+                rels = rels(parser);
+            } else if (HREF.equals(name) && token == VALUE_STRING) {
+                href = parser.getText();
+            } else if (TITLE.equals(name) && token == VALUE_STRING) {
+                title = parser.getText();
+            } else if (TYPE.equals(name) && token == VALUE_STRING) {
+                type = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (parser.currentToken() != END_OBJECT || rels == null || rels.isEmpty() || href == null) {
+            return false;
+        }
+        return handler.handle(rels, href, title, type);
+    }
+
+    private static List<String> rels(JsonParser parser) throws IOException {
+        List<String> rels = newArrayList();
+        JsonToken token;
+        while ((token = parser.nextToken()) != END_ARRAY && token != null) {
+            if (token == VALUE_STRING) {
+                rels.add(parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return rels;
+    }
+
+    /**
+     * Handler which is called for each complete link the {@link SirenLinkReader} reads.
+     */
+    @FunctionalInterface
+    interface LinkHandler {
+
+        /**
+         * Handles the given link.
+         *
+         * @param rels the relations of the link, never {@literal null} or empty.
+         * @param href the href of the link, never {@literal null}.
+         * @param title the title of the link.
+         * @param type the type of the link.
+         * @return {@literal true} if the reading should stop, {@literal false} otherwise.
+         */
+        boolean handle(List<String> rels, String href, @Nullable String title, @Nullable String type);
+    }
+}
@@ -21,19 +21,26 @@ import static de.ingogriebsch.spring.hateoas.siren.SimpleObjectProvider.objectPr
 
 import java.util.List;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.NonNull;
 import lombok.Value;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.context.NoSuchMessageException;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.hateoas.client.LinkDiscoverer;
 import org.springframework.hateoas.config.HypermediaMappingInformation;
 import org.springframework.hateoas.mediatype.MessageResolver;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.CodecConfigurer;
+import org.springframework.lang.Nullable;
 
 /**
  * A Spring based configuration that enables Siren support in the surrounding environment.
@@ -46,15 +53,19 @@ import org.springframework.http.MediaType;
  * @see ObjectMapper
  */
 @Configuration
+@Import(SirenOptionalConfigurationImportSelector.class)
 public class SirenMediaTypeConfiguration implements HypermediaMappingInformation {
 
     private final MessageResolver messageResolver;
+    private final CachingMessageResolver titleCache;
     private final SirenConfiguration configuration;
     private final SirenEntityClassProvider entityClassProvider;
     private final SirenEntityRelProvider entityRelProvider;
     private final SirenActionFieldTypeConverter actionFieldTypeConverter;
     private final RepresentationModelFactories representationModelFactories;
     private final PropertiesFacility propertiesFacility;
+    private final SirenLinkConverter linkConverter;
+    private final SirenMetrics metrics;
 
     public SirenMediaTypeConfiguration( //
         @NonNull ObjectProvider<MessageResolver> messageResolver, //
@@ -63,15 +74,33 @@ public class SirenMediaTypeConfiguration implements HypermediaMappingInformation
         @NonNull ObjectProvider<SirenEntityRelProvider> entityRelProvider, //
         @NonNull ObjectProvider<SirenActionFieldTypeConverter> actionFieldTypeConverter, //
         @NonNull ObjectProvider<RepresentationModelFactories> representationModelFactories) {
+        this(messageResolver, configuration, entityClassProvider, entityRelProvider, actionFieldTypeConverter,
+            representationModelFactories, objectProvider(null));
+    }
+
+    @Autowired
+    SirenMediaTypeConfiguration( //
+        @NonNull ObjectProvider<MessageResolver> messageResolver, //
+        @NonNull ObjectProvider<SirenConfiguration> configuration, //
+        @NonNull ObjectProvider<SirenEntityClassProvider> entityClassProvider, //
+        @NonNull ObjectProvider<SirenEntityRelProvider> entityRelProvider, //
+        @NonNull ObjectProvider<SirenActionFieldTypeConverter> actionFieldTypeConverter, //
+        @NonNull ObjectProvider<RepresentationModelFactories> representationModelFactories, //
+        @NonNull ObjectProvider<SirenMetrics> metrics) {
 
-        this.messageResolver = messageResolver(messageResolver);
         this.configuration = configuration(configuration);
 
+        MessageResolver resolver = messageResolver(messageResolver);
+        this.titleCache = titleCache(resolver, this.configuration);
+        this.messageResolver = this.titleCache != null ? this.titleCache : resolver;
+
         this.entityClassProvider = entityClassProvider(entityClassProvider);
         this.entityRelProvider = entityRelProvider(entityRelProvider);
         this.actionFieldTypeConverter = actionFieldTypeConverter(actionFieldTypeConverter, this.configuration);
         this.representationModelFactories = representationModelFactories(representationModelFactories);
         this.propertiesFacility = propertiesFacility(this.configuration);
+        this.linkConverter = new SirenLinkConverter(this.messageResolver, this.actionFieldTypeConverter);
+        this.metrics = metrics.getIfAvailable(() -> SirenMetrics.NONE);
     }
 
     /*
@@ -102,11 +131,58 @@ public class SirenMediaTypeConfiguration implements HypermediaMappingInformation
         mapper = HypermediaMappingInformation.super.configureObjectMapper(mapper);
 
         mapper.setHandlerInstantiator(sirenHandlerInitiator());
+        JsonFactory factory = mapper.getFactory();
+        if (metrics.isEnabled() && !(factory.getOutputDecorator() instanceof CountingOutputDecorator)) {
+            factory.setOutputDecorator(new CountingOutputDecorator(factory.getOutputDecorator()));
+        }
         configuration.getObjectMapperCustomizer().accept(mapper);
 
         return mapper;
     }
 
+    /**
+     * Returns the statistics of the cache that holds the resolved titles of Siren entities, links, actions and fields.
+     *
+     * @return the statistics of the title cache. Will never be {@literal null}.
+     * @see SirenConfiguration#withTitleCacheMaximumSize(long)
+     */
+    public SirenTitleCacheStatistics getTitleCacheStatistics() {
+        return titleCache != null ? titleCache.statistics() : SirenTitleCacheStatistics.EMPTY;
+    }
+
+    /**
+     * Invalidates the caches that hold the resolved titles of Siren entities, links, actions and fields as well as the converted
+     * actions. Is called whenever the surrounding application context (and therefore its message source) is refreshed.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void invalidateCaches() {
+        if (titleCache != null) {
+            titleCache.invalidate();
+        }
+        linkConverter.invalidate();
+    }
+
+    /**
+     * Registers the reactive Siren codecs with the given configurer, i.e. the ones that encode a
+     * {@link SirenReactiveCollectionModel} and decode a {@link SirenDecodedCollectionModel} item by item. The codecs are
+     * registered automatically with the WebFlux server, but need to be registered explicitly with a
+     * {@link org.springframework.web.reactive.function.client.WebClient} through its builder.
+     *
+     * @param configurer the configurer to register the codecs with.
+     * @param mapper the {@link ObjectMapper} to base the codecs on. Is copied and configured for Siren before it is used.
+     */
+    public void registerReactiveCodecs(@NonNull CodecConfigurer configurer, @NonNull ObjectMapper mapper) {
+        ObjectMapper objectMapper = configureObjectMapper(mapper.copy());
+
+        SirenReactiveCollectionModelEncoder encoder = new SirenReactiveCollectionModelEncoder(objectMapper, metrics);
+        configurer.customCodecs().register(new SirenReactiveCollectionModelEncoder.MessageWriter(encoder));
+        configurer.customCodecs().register(new SirenDecodedCollectionModelDecoder(objectMapper, linkConverter));
+    }
+
+    SirenConfiguration getConfiguration() {
+        return configuration;
+    }
+
     @Bean
     LinkDiscoverer sirenLinkDiscoverer() {
         return new SirenLinkDiscoverer();
@@ -120,24 +196,36 @@ public class SirenMediaTypeConfiguration implements HypermediaMappingInformation
         SirenActionFieldTypeConverter actionFieldTypeConverter, //
         RepresentationModelFactories representationModelFactories) {
 
+        return of(messageResolver, configuration, entityClassProvider, entityRelProvider, actionFieldTypeConverter,
+            representationModelFactories, null);
+    }
+
+    static SirenMediaTypeConfiguration of( //
+        MessageResolver messageResolver, //
+        SirenConfiguration configuration, //
+        SirenEntityClassProvider entityClassProvider, //
+        SirenEntityRelProvider entityRelProvider, //
+        SirenActionFieldTypeConverter actionFieldTypeConverter, //
+        RepresentationModelFactories representationModelFactories, //
+        SirenMetrics metrics) {
+
         return new SirenMediaTypeConfiguration( //
             objectProvider(messageResolver), //
             objectProvider(configuration), //
             objectProvider(entityClassProvider), //
             objectProvider(entityRelProvider), //
             objectProvider(actionFieldTypeConverter), //
-            objectProvider(representationModelFactories) //
+            objectProvider(representationModelFactories), //
+            objectProvider(metrics) //
         );
     }
 
     private SirenHandlerInstantiator sirenHandlerInitiator() {
-        SirenLinkConverter linkConverter = new SirenLinkConverter(messageResolver, actionFieldTypeConverter);
-
         SirenDeserializerFacilities deserializerFacilities =
-            new SirenDeserializerFacilities(representationModelFactories, propertiesFacility, linkConverter);
+            new SirenDeserializerFacilities(representationModelFactories, propertiesFacility, linkConverter, metrics);
 
         SirenSerializerFacilities serializerFacilities = new SirenSerializerFacilities(entityClassProvider, entityRelProvider,
-            propertiesFacility, linkConverter, messageResolver);
+            propertiesFacility, linkConverter, messageResolver, metrics);
 
         return new SirenHandlerInstantiator(configuration, serializerFacilities, deserializerFacilities);
     }
@@ -147,6 +235,12 @@ public class SirenMediaTypeConfiguration implements HypermediaMappingInformation
             messageResolver.getIfAvailable(() -> MessageResolver.of(null)));
     }
 
+    @Nullable
+    private static CachingMessageResolver titleCache(MessageResolver messageResolver, SirenConfiguration configuration) {
+        long maximumSize = configuration.getTitleCacheMaximumSize();
+        return maximumSize > 0 ? new CachingMessageResolver(messageResolver, maximumSize) : null;
+    }
+
     private static SirenConfiguration configuration(ObjectProvider<SirenConfiguration> configuration) {
         return configuration.getIfAvailable(SirenConfiguration::new);
     }
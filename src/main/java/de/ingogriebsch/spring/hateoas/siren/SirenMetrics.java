@@ -0,0 +1,93 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.RepresentationModel;
+
+/**
+ * Receiver of the measurements taken while Siren entities are serialized and deserialized.
+ * <p>
+ * The measurements are taken per document, i.e. per root entity, and are attributed to the kind of the model the document is
+ * based on (see {@link #kind(Class)}). The interface does not depend on a specific metrics library. The default instance
+ * {@link #NONE} is disabled so that the serializers and deserializers take no measurements at all.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see MicrometerSirenMetrics
+ */
+interface SirenMetrics {
+
+    /**
+     * Instance that is disabled and therefore ignores all measurements.
+     */
+    SirenMetrics NONE = new SirenMetrics() {
+    };
+
+    /**
+     * Returns if measurements should be taken at all.
+     *
+     * @return {@literal true} if measurements should be taken, {@literal false} otherwise.
+     */
+    default boolean isEnabled() {
+        return false;
+    }
+
+    /**
+     * Records the serialization of a document.
+     *
+     * @param kind the kind of the model the document is based on.
+     * @param duration the time it took to write the document in nanoseconds.
+     * @param statistics the statistics collected while the document was written.
+     * @param writtenBytes the number of bytes written or a negative number if unknown.
+     */
+    default void serialized(String kind, long duration, SirenSerializationContext.Statistics statistics, long writtenBytes) {
+    }
+
+    /**
+     * Records the deserialization of a document.
+     *
+     * @param kind the kind of the model the document is deserialized into.
+     * @param duration the time it took to read the document in nanoseconds.
+     */
+    default void deserialized(String kind, long duration) {
+    }
+
+    /**
+     * Returns the kind of the model the given type represents, i.e. the simple name of the most specific model class known to
+     * the library the type is assignable to.
+     *
+     * @param type the type of the model.
+     * @return the kind of the model. Will never be {@literal null}.
+     */
+    static String kind(Class<?> type) {
+        if (SirenModel.class.isAssignableFrom(type)) {
+            return SirenModel.class.getSimpleName();
+        }
+        if (PagedModel.class.isAssignableFrom(type)) {
+            return PagedModel.class.getSimpleName();
+        }
+        if (CollectionModel.class.isAssignableFrom(type)) {
+            return CollectionModel.class.getSimpleName();
+        }
+        if (EntityModel.class.isAssignableFrom(type)) {
+            return EntityModel.class.getSimpleName();
+        }
+        return RepresentationModel.class.getSimpleName();
+    }
+}
@@ -0,0 +1,40 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * A Spring based configuration that publishes the measurements taken while Siren entities are serialized and deserialized to the
+ * {@link MeterRegistry} available in the surrounding environment. Is only imported if Micrometer is available on the classpath
+ * and measures nothing if no (unique) {@link MeterRegistry} bean is defined.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see MicrometerSirenMetrics
+ */
+@Configuration(proxyBeanMethods = false)
+class SirenMetricsConfiguration {
+
+    @Bean
+    SirenMetrics sirenMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfUnique();
+        return registry != null ? new MicrometerSirenMetrics(registry) : SirenMetrics.NONE;
+    }
+}
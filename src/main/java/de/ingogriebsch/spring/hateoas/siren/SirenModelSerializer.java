@@ -15,13 +15,10 @@
  */
 package de.ingogriebsch.spring.hateoas.siren;
 
-import static java.util.Optional.ofNullable;
-
-import static com.google.common.collect.Maps.newHashMap;
+import static de.ingogriebsch.spring.hateoas.siren.SirenProjection.Section.TITLE;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.BeanProperty;
@@ -29,6 +26,7 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import de.ingogriebsch.spring.hateoas.siren.SirenModel.EmbeddedRepresentation;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.lang.Nullable;
 import org.springframework.util.CollectionUtils;
@@ -60,39 +58,42 @@ class SirenModelSerializer extends AbstractSirenSerializer<SirenModel> {
 
     @Override
     public void serialize(SirenModel model, JsonGenerator gen, SerializerProvider provider) throws IOException {
-        SirenNavigables navigables = getLinkConverter().to(model.getLinks());
-
-        SirenEntity sirenEntity = SirenEntity.builder() //
-            .classes(classes(model)) //
-            .rels(rels(model, provider)) //
-            .properties(properties(model.getProperties())) //
-            .entities(model.getEntities()) //
-            .links(navigables.getLinks()) //
-            .actions(navigables.getActions()) //
-            .title(title(model)) //
-            .build();
-
-        JsonSerializer<Object> serializer = provider.findValueSerializer(SirenEntity.class, property);
+        SirenSerializationContext context = context(provider);
+        List<LinkRelation> rels = rels(model, context);
 
-        Object parent = setAttribute(ATTR_KEY_PARENT, model, provider);
+        if (!enter(model, rels, context, gen)) {
+            return;
+        }
         try {
-            serializer.serialize(sirenEntity, gen, provider);
+            SirenNavigables navigables = navigables(model, context);
+            entityWriter(gen, provider) //
+                .start(model) //
+                .classes(classes(model)) //
+                .rels(rels) //
+                .properties(properties(model.getProperties(), context)) //
+                .entities(entities(context, model.getEntities())) //
+                .links(navigables.getLinks()) //
+                .actions(navigables.getActions()) //
+                .title(title(model, context)) //
+                .end();
         } finally {
-            setAttribute(ATTR_KEY_PARENT, parent, provider);
+            leave(context, gen);
         }
     }
 
-    private String title(SirenModel model) {
-        return model.getTitle() != null ? model.getTitle() : title(RepresentationModel.class);
+    private String title(SirenModel model, SirenSerializationContext context) {
+        if (model.getTitle() == null) {
+            return title(RepresentationModel.class, context);
+        }
+        return context.projection().includes(TITLE) ? model.getTitle() : null;
     }
 
     private List<String> classes(SirenModel model) {
         return CollectionUtils.isEmpty(model.getClasses()) ? super.classes(model) : model.getClasses();
     }
 
-    private Map<String, Object> properties(Object model) {
-        Map<String, Object> properties = ofNullable(model).map(this::extractProperties).orElse(newHashMap());
-        return properties.isEmpty() ? null : properties;
+    private Object properties(Object model, SirenSerializationContext context) {
+        return model != null ? writableProperties(context, model) : null;
     }
 
     static class EmbeddedRepresentationSerializer extends AbstractSirenSerializer<EmbeddedRepresentation> {
@@ -118,13 +119,14 @@ class SirenModelSerializer extends AbstractSirenSerializer<SirenModel> {
             throws IOException {
             RepresentationModel<?> model = representation.getModel();
 
-            JsonSerializer<Object> serializer = provider.findValueSerializer(model.getClass(), property);
+            JsonSerializer<Object> serializer = valueSerializers.find(model.getClass(), provider);
 
-            Object former = setAttribute(ATTR_KEY_REL, representation.getRels(), provider);
+            SirenSerializationContext context = context(provider);
+            List<LinkRelation> former = context.pendingRels(representation.getRels());
             try {
                 serializer.serialize(model, gen, provider);
             } finally {
-                setAttribute(ATTR_KEY_REL, former, provider);
+                context.pendingRels(former);
             }
         }
 
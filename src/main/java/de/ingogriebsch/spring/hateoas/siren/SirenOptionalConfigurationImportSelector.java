@@ -0,0 +1,60 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.springframework.util.ClassUtils.isPresent;
+
+import java.util.List;
+
+import org.springframework.context.annotation.ImportSelector;
+import org.springframework.core.type.AnnotationMetadata;
+
+/**
+ * {@link ImportSelector} that imports the configurations which depend on optional libraries if these are available on the
+ * classpath, i.e. the configurations specific to Spring MVC, WebFlux, the Smile data format and Micrometer.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenMediaTypeConfiguration
+ */
+class SirenOptionalConfigurationImportSelector implements ImportSelector {
+
+    private static final String WEBMVC_INDICATOR_CLASS = "org.springframework.web.servlet.DispatcherServlet";
+    private static final String WEBFLUX_INDICATOR_CLASS = "org.springframework.web.reactive.DispatcherHandler";
+    private static final String SMILE_INDICATOR_CLASS = "com.fasterxml.jackson.dataformat.smile.SmileFactory";
+    private static final String MICROMETER_INDICATOR_CLASS = "io.micrometer.core.instrument.MeterRegistry";
+
+    @Override
+    public String[] selectImports(AnnotationMetadata importingClassMetadata) {
+        ClassLoader classLoader = getClass().getClassLoader();
+
+        List<String> imports = newArrayList();
+        if (isPresent(WEBMVC_INDICATOR_CLASS, classLoader)) {
+            imports.add(SirenWebMvcConfiguration.class.getName());
+        }
+        if (isPresent(WEBFLUX_INDICATOR_CLASS, classLoader)) {
+            imports.add(SirenWebFluxConfiguration.class.getName());
+        }
+        if (isPresent(SMILE_INDICATOR_CLASS, classLoader)) {
+            imports.add(SirenSmileConfiguration.class.getName());
+        }
+        if (isPresent(MICROMETER_INDICATOR_CLASS, classLoader)) {
+            imports.add(SirenMetricsConfiguration.class.getName());
+        }
+        return imports.toArray(new String[0]);
+    }
+}
@@ -15,7 +15,6 @@
  */
 package de.ingogriebsch.spring.hateoas.siren;
 
-import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
 import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
 import static com.fasterxml.jackson.databind.type.TypeFactory.defaultInstance;
 
@@ -28,6 +27,7 @@ import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.PagedModel.PageMetadata;
 import org.springframework.lang.Nullable;
@@ -43,6 +43,10 @@ class SirenPagedModelDeserializer extends AbstractSirenDeserializer<PagedModel<?
 
     private static final long serialVersionUID = 4364222303241126575L;
     private static final JavaType TYPE = defaultInstance().constructType(PagedModel.class);
+    private static final JavaType METADATA_TYPE = defaultInstance().constructType(PageMetadata.class);
+
+    @Nullable
+    private final JsonDeserializer<Object> metadataDeserializer;
 
     SirenPagedModelDeserializer(SirenConfiguration configuration, SirenDeserializerFacilities deserializerFacilities) {
         this(configuration, deserializerFacilities, TYPE);
@@ -51,12 +55,20 @@ class SirenPagedModelDeserializer extends AbstractSirenDeserializer<PagedModel<?
     SirenPagedModelDeserializer(SirenConfiguration configuration, SirenDeserializerFacilities deserializerFacilities,
         JavaType contentType) {
         super(configuration, deserializerFacilities, contentType);
+        this.metadataDeserializer = null;
+    }
+
+    private SirenPagedModelDeserializer(SirenConfiguration configuration, SirenDeserializerFacilities deserializerFacilities,
+        JavaType contentType, DeserializationContext ctxt) throws JsonMappingException {
+        super(configuration, deserializerFacilities, contentType, ctxt);
+        this.metadataDeserializer = ctxt.findRootValueDeserializer(METADATA_TYPE);
     }
 
     @Override
-    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, @Nullable BeanProperty property) {
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, @Nullable BeanProperty property)
+        throws JsonMappingException {
         JavaType contentType = property == null ? ctxt.getContextualType() : property.getType().getContentType();
-        return new SirenPagedModelDeserializer(configuration, deserializerFacilities, contentType);
+        return new SirenPagedModelDeserializer(configuration, deserializerFacilities, contentType, ctxt);
     }
 
     @Override
@@ -64,30 +76,31 @@ class SirenPagedModelDeserializer extends AbstractSirenDeserializer<PagedModel<?
         SirenPagedModelBuilder builder =
             SirenPagedModelBuilder.builder(contentType, getRepresentationModelFactories().forPagedModel(), getLinkConverter());
 
-        while (jp.nextToken() != null) {
-            if (FIELD_NAME.equals(jp.currentToken())) {
-                if ("properties".equals(jp.getText())) {
+        String name;
+        while ((name = jp.nextFieldName()) != null) {
+            switch (name) {
+                case PROPERTIES:
                     builder.metadata(deserializeMetadata(jp, ctxt));
-                }
-
-                if ("entities".equals(jp.getText())) {
+                    break;
+                case ENTITIES:
                     builder.content(deserializeEntities(jp, ctxt));
-                }
-
-                if ("links".equals(jp.getText())) {
+                    break;
+                case LINKS:
                     builder.links(deserializeLinks(jp, ctxt));
-                }
-
-                if ("actions".equals(jp.getText())) {
+                    break;
+                case ACTIONS:
                     builder.actions(deserializeActions(jp, ctxt));
-                }
+                    break;
+                default:
+                    skipMember(jp);
             }
         }
+        verifyEndOfEntity(jp);
         return builder.build();
     }
 
     private PageMetadata deserializeMetadata(JsonParser jp, DeserializationContext ctxt) throws IOException {
-        JsonDeserializer<Object> deserializer = getDeserializer(defaultInstance().constructType(PageMetadata.class), jp, ctxt);
+        JsonDeserializer<Object> deserializer = getDeserializer(metadataDeserializer, METADATA_TYPE, jp, ctxt);
 
         JsonToken nextToken = jp.nextToken();
         if (!START_OBJECT.equals(nextToken)) {
@@ -15,8 +15,6 @@
  */
 package de.ingogriebsch.spring.hateoas.siren;
 
-import static java.util.stream.Collectors.toList;
-
 import java.io.IOException;
 import java.util.List;
 
@@ -24,7 +22,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.lang.Nullable;
 
@@ -55,33 +53,26 @@ class SirenPagedModelSerializer extends AbstractSirenSerializer<PagedModel<?>> {
 
     @Override
     public void serialize(PagedModel<?> model, JsonGenerator gen, SerializerProvider provider) throws IOException {
-        SirenNavigables navigables = getLinkConverter().to(model.getLinks());
-
-        SirenEntity sirenEntity = SirenEntity.builder() //
-            .actions(navigables.getActions()) //
-            .classes(classes(model)) //
-            .entities(entities(model)) //
-            .links(navigables.getLinks()) //
-            .properties(model.getMetadata()) //
-            .rels(rels(model, provider)) //
-            .title(title(model.getClass())) //
-            .build();
+        SirenSerializationContext context = context(provider);
+        List<LinkRelation> rels = rels(model, context);
 
-        JsonSerializer<Object> serializer = provider.findValueSerializer(SirenEntity.class, property);
-
-        Object parent = setAttribute(ATTR_KEY_PARENT, model, provider);
+        if (!enter(model, rels, context, gen)) {
+            return;
+        }
         try {
-            serializer.serialize(sirenEntity, gen, provider);
+            SirenNavigables navigables = navigables(model, context);
+            entityWriter(gen, provider) //
+                .start(model) //
+                .classes(classes(model)) //
+                .rels(rels) //
+                .properties(projectedProperties(context, model.getMetadata())) //
+                .entities(entities(context, model.getContent())) //
+                .links(navigables.getLinks()) //
+                .actions(navigables.getActions()) //
+                .title(title(model.getClass(), context)) //
+                .end();
         } finally {
-            setAttribute(ATTR_KEY_PARENT, parent, provider);
+            leave(context, gen);
         }
     }
-
-    private static List<Object> entities(CollectionModel<?> model) {
-        return model.getContent().stream().map(SirenPagedModelSerializer::entity).collect(toList());
-    }
-
-    private static Object entity(Object embeddable) {
-        return embeddable;
-    }
 }
@@ -0,0 +1,273 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.NoArgsConstructor;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Projection of the Siren entities that are written as part of a single document, requested by a client through the
+ * {@literal fields} and {@literal include} query parameters, e.g. {@literal ?fields=name,age&include=links,actions:update}.
+ * <p>
+ * The {@literal fields} parameter restricts the properties of an entity to the listed ones. The {@literal include} parameter
+ * restricts the sections of an entity ({@literal properties}, {@literal entities}, {@literal links}, {@literal actions} and
+ * {@literal title}) that are written. The links and actions can be restricted further by appending their rels or names, e.g.
+ * {@literal links:self} or {@literal actions:update}. The class and rels of an entity are always written. Listing fields
+ * implies the properties of an entity, so {@literal include} does not need to list them again.
+ * <p>
+ * Both parameters apply to the root entity. They apply to sub-entities if prefixed by the dotted path of rels leading to them,
+ * e.g. {@literal fields=item.name} or {@literal include=author.links:self}. If the sections of an entity are restricted, its
+ * sub-entities are only written if they are either referenced by such a path or {@literal entities} are included explicitly.
+ * Sub-entities which are not referenced are written without any restrictions.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenConfiguration#withProjectionEnabled(boolean)
+ */
+@NoArgsConstructor(access = PRIVATE)
+class SirenProjection {
+
+    static final String FIELDS_PARAMETER = "fields";
+    static final String INCLUDE_PARAMETER = "include";
+
+    /**
+     * The projection that does not restrict anything.
+     */
+    static final SirenProjection NONE = new SirenProjection();
+
+    @Nullable
+    private Set<String> fields;
+    @Nullable
+    private Set<Section> sections;
+    @Nullable
+    private Set<String> linkRels;
+    @Nullable
+    private Set<String> actionNames;
+    private boolean allLinks;
+    private boolean allActions;
+    private boolean entitiesRestricted;
+    private final Map<String, SirenProjection> children = new HashMap<>();
+
+    /**
+     * Creates a projection from the values of the {@literal fields} and {@literal include} query parameters. Each value may hold
+     * several comma separated items.
+     *
+     * @param fields the values of the {@literal fields} parameter. Can be {@literal null}.
+     * @param include the values of the {@literal include} parameter. Can be {@literal null}.
+     * @return the projection or {@literal null} if neither of the parameters holds any item.
+     */
+    @Nullable
+    static SirenProjection of(@Nullable List<String> fields, @Nullable List<String> include) {
+        Set<String> fieldItems = items(fields);
+        Set<String> includeItems = items(include);
+        if (fieldItems.isEmpty() && includeItems.isEmpty()) {
+            return null;
+        }
+
+        SirenProjection projection = new SirenProjection();
+        for (String item : fieldItems) {
+            int dot = item.lastIndexOf('.');
+            projection.node(dot > 0 ? item.substring(0, dot) : null).field(item.substring(dot + 1));
+        }
+        for (String item : includeItems) {
+            projection.include(item);
+        }
+        projection.complete();
+        return projection;
+    }
+
+    /**
+     * Returns whether the given section of the entity should be written.
+     *
+     * @param section the section of the entity.
+     * @return {@literal true} if the section should be written, otherwise {@literal false}.
+     */
+    boolean includes(Section section) {
+        return sections == null || sections.contains(section);
+    }
+
+    /**
+     * Returns whether the link with the given rel should be written.
+     *
+     * @param rel the rel of the link.
+     * @return {@literal true} if the link should be written, otherwise {@literal false}.
+     */
+    boolean includesLink(LinkRelation rel) {
+        return includes(Section.LINKS) && (linkRels == null || linkRels.contains(rel.value()));
+    }
+
+    /**
+     * Returns whether the action with the given name should be written.
+     *
+     * @param name the name of the action.
+     * @return {@literal true} if the action should be written, otherwise {@literal false}.
+     */
+    boolean includesAction(@Nullable String name) {
+        return includes(Section.ACTIONS) && (actionNames == null || actionNames.contains(name));
+    }
+
+    /**
+     * Returns the names of the properties that should be written.
+     *
+     * @return the names of the properties or {@literal null} if all properties should be written.
+     */
+    @Nullable
+    Set<String> fields() {
+        return fields;
+    }
+
+    /**
+     * Returns the projection of the sub-entity with the given rels.
+     *
+     * @param rels the rels of the sub-entity.
+     * @return the projection of the sub-entity or {@literal null} if the sub-entity should not be written at all.
+     */
+    @Nullable
+    SirenProjection child(List<LinkRelation> rels) {
+        for (LinkRelation rel : rels) {
+            SirenProjection child = children.get(rel.value());
+            if (child != null) {
+                return child;
+            }
+        }
+        return entitiesRestricted ? null : NONE;
+    }
+
+    private void include(String item) {
+        int colon = item.indexOf(':');
+        String path = colon >= 0 ? item.substring(0, colon) : item;
+        String name = colon >= 0 && colon < item.length() - 1 ? item.substring(colon + 1) : null;
+
+        int dot = path.lastIndexOf('.');
+        Section section = Section.of(path.substring(dot + 1));
+        if (section == null) {
+            // Items which do not end with a section reference a sub-entity which should be written.
+            node(path);
+            return;
+        }
+        node(dot > 0 ? path.substring(0, dot) : null).include(section, name);
+    }
+
+    private void include(Section section, @Nullable String name) {
+        if (sections == null) {
+            sections = EnumSet.noneOf(Section.class);
+        }
+        sections.add(section);
+
+        if (section == Section.LINKS) {
+            linkRels = name(linkRels, name);
+            allLinks |= name == null;
+        } else if (section == Section.ACTIONS) {
+            actionNames = name(actionNames, name);
+            allActions |= name == null;
+        }
+    }
+
+    private void field(String name) {
+        if (fields == null) {
+            fields = new HashSet<>();
+        }
+        fields.add(name);
+    }
+
+    private SirenProjection node(@Nullable String path) {
+        SirenProjection node = this;
+        if (path == null || path.isEmpty()) {
+            return node;
+        }
+
+        for (String rel : path.split("\\.")) {
+            node = node.children.computeIfAbsent(rel, r -> new SirenProjection());
+        }
+        return node;
+    }
+
+    private void complete() {
+        if (allLinks) {
+            linkRels = null;
+        }
+        if (allActions) {
+            actionNames = null;
+        }
+
+        if (sections != null) {
+            if (fields != null) {
+                sections.add(Section.PROPERTIES);
+            }
+            if (!children.isEmpty() && !sections.contains(Section.ENTITIES)) {
+                sections.add(Section.ENTITIES);
+                entitiesRestricted = true;
+            }
+        }
+
+        for (SirenProjection child : children.values()) {
+            child.complete();
+        }
+    }
+
+    private static Set<String> name(@Nullable Set<String> names, @Nullable String name) {
+        Set<String> result = names != null ? names : new HashSet<>();
+        if (name != null) {
+            result.add(name);
+        }
+        return result;
+    }
+
+    private static Set<String> items(@Nullable List<String> values) {
+        Set<String> items = new HashSet<>();
+        if (values == null) {
+            return items;
+        }
+
+        for (String value : values) {
+            for (String item : value.split(",")) {
+                String trimmed = item.trim();
+                if (!trimmed.isEmpty()) {
+                    items.add(trimmed);
+                }
+            }
+        }
+        return items;
+    }
+
+    /**
+     * The sections of a Siren entity that can be included.
+     */
+    enum Section {
+
+            PROPERTIES, ENTITIES, LINKS, ACTIONS, TITLE;
+
+        @Nullable
+        static Section of(String name) {
+            for (Section section : values()) {
+                if (section.name().equalsIgnoreCase(name)) {
+                    return section;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_JSON;
+import static de.ingogriebsch.spring.hateoas.siren.SirenProjection.FIELDS_PARAMETER;
+import static de.ingogriebsch.spring.hateoas.siren.SirenProjection.INCLUDE_PARAMETER;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Hints;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * {@link Jackson2JsonEncoder} that hands the {@link SirenProjection projection} the client asked for over to the Siren
+ * serializers, if enabled.
+ * <p>
+ * The encoder only supports {@link RepresentationModel}s so that it is registered in front of the default JSON encoder.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenConfiguration#withProjectionEnabled(boolean)
+ */
+class SirenProjectionEncoder extends Jackson2JsonEncoder {
+
+    private static final String PROJECTION_HINT = SirenProjectionEncoder.class.getName() + ".PROJECTION";
+
+    private final boolean projectionEnabled;
+
+    SirenProjectionEncoder(ObjectMapper mapper, boolean projectionEnabled) {
+        super(mapper, SIREN_JSON);
+        this.projectionEnabled = projectionEnabled;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.http.codec.json.AbstractJackson2Encoder#canEncode(org.springframework.core.ResolvableType,
+     * org.springframework.util.MimeType)
+     */
+    @Override
+    public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        return RepresentationModel.class.isAssignableFrom(elementType.toClass()) && super.canEncode(elementType, mimeType);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.http.codec.json.AbstractJackson2Encoder#getEncodeHints(org.springframework.core.ResolvableType,
+     * org.springframework.core.ResolvableType, org.springframework.http.MediaType,
+     * org.springframework.http.server.reactive.ServerHttpRequest, org.springframework.http.server.reactive.ServerHttpResponse)
+     */
+    @Override
+    public Map<String, Object> getEncodeHints(@Nullable ResolvableType actualType, ResolvableType elementType,
+        @Nullable MediaType mediaType, ServerHttpRequest request, ServerHttpResponse response) {
+        Map<String, Object> hints = super.getEncodeHints(actualType, elementType, mediaType, request, response);
+        if (!projectionEnabled) {
+            return hints;
+        }
+
+        MultiValueMap<String, String> parameters = request.getQueryParams();
+        SirenProjection projection = SirenProjection.of(parameters.get(FIELDS_PARAMETER), parameters.get(INCLUDE_PARAMETER));
+        return projection != null ? Hints.merge(hints, PROJECTION_HINT, projection) : hints;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.http.codec.json.Jackson2JsonEncoder#customizeWriter(com.fasterxml.jackson.databind.ObjectWriter,
+     * org.springframework.util.MimeType, org.springframework.core.ResolvableType, java.util.Map)
+     */
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, @Nullable MimeType mimeType, ResolvableType elementType,
+        @Nullable Map<String, Object> hints) {
+        writer = super.customizeWriter(writer, mimeType, elementType, hints);
+        SirenProjection projection = hints != null ? (SirenProjection) hints.get(PROJECTION_HINT) : null;
+        return projection != null ? writer.withAttribute(SirenProjection.class, projection) : writer;
+    }
+}
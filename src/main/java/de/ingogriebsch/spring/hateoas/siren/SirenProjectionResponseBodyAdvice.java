@@ -0,0 +1,136 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_JSON;
+import static de.ingogriebsch.spring.hateoas.siren.SirenProjection.FIELDS_PARAMETER;
+import static de.ingogriebsch.spring.hateoas.siren.SirenProjection.INCLUDE_PARAMETER;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * {@link ResponseBodyAdvice} that writes Siren responses by itself if the client requested a {@link SirenProjection projection}
+ * of them, because the message converters offer no way to hand the projection over to the Siren serializers.
+ * <p>
+ * The advice is ordered after the {@link SirenServerTimingResponseBodyAdvice}, which applies the projection by itself, so that
+ * it only writes responses the former left to the message converters.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenConfiguration#withProjectionEnabled(boolean)
+ */
+@ControllerAdvice
+class SirenProjectionResponseBodyAdvice implements ResponseBodyAdvice<Object>, Ordered {
+
+    @Nullable
+    private final ObjectMapper objectMapper;
+
+    SirenProjectionResponseBodyAdvice(SirenMediaTypeConfiguration configuration, ObjectMapper mapper) {
+        this.objectMapper =
+            configuration.getConfiguration().isProjectionEnabled() ? configuration.configureObjectMapper(mapper.copy()) : null;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.core.Ordered#getOrder()
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice#supports(org.springframework.core.
+     * MethodParameter, java.lang.Class)
+     */
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return objectMapper != null && AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice#beforeBodyWrite(java.lang.Object,
+     * org.springframework.core.MethodParameter, org.springframework.http.MediaType, java.lang.Class,
+     * org.springframework.http.server.ServerHttpRequest, org.springframework.http.server.ServerHttpResponse)
+     */
+    @Override
+    @Nullable
+    public Object beforeBodyWrite(@Nullable Object body, MethodParameter returnType, MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof RepresentationModel) || !SIREN_JSON.isCompatibleWith(selectedContentType)) {
+            return body;
+        }
+
+        SirenProjection projection = projection(request);
+        if (projection == null) {
+            return body;
+        }
+
+        response.getHeaders().setContentType(selectedContentType);
+        try {
+            objectMapper.writer() //
+                .withAttribute(SirenProjection.class, projection) //
+                .writeValue(StreamUtils.nonClosing(response.getBody()), body);
+        } catch (IOException e) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + e.getMessage(), e);
+        }
+
+        // The body is already written, so there is nothing left to do for the message converter.
+        return null;
+    }
+
+    /**
+     * Returns the projection the given request asks for.
+     *
+     * @param request the current request.
+     * @return the projection or {@literal null} if the request does not ask for one.
+     */
+    @Nullable
+    static SirenProjection projection(ServerHttpRequest request) {
+        MultiValueMap<String, String> parameters = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams();
+        return SirenProjection.of(decode(parameters.get(FIELDS_PARAMETER)), decode(parameters.get(INCLUDE_PARAMETER)));
+    }
+
+    @Nullable
+    private static List<String> decode(@Nullable List<String> values) {
+        return values != null ? values.stream().filter(v -> v != null).map(v -> UriUtils.decode(v, UTF_8)).collect(toList())
+            : null;
+    }
+}
@@ -0,0 +1,75 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.reactivestreams.Publisher;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+
+/**
+ * A Siren collection whose content is emitted by a {@link Publisher}. Encoded through the
+ * {@link SirenReactiveCollectionModelEncoder}, the envelope of the collection is written first and each item is written as an
+ * embedded entity as soon as it is emitted, so neither the time to the first byte nor the memory that is needed grows with the
+ * number of items.
+ * <p>
+ * The resulting entity looks the same as the one of a {@link CollectionModel} holding the same content and links.
+ *
+ * @param <T> the type of the content.
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenReactiveCollectionModelEncoder
+ */
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+@ToString
+public final class SirenReactiveCollectionModel<T> {
+
+    @NonNull
+    private final Publisher<T> content;
+    @NonNull
+    private final Links links;
+
+    /**
+     * Creates a new {@link SirenReactiveCollectionModel} emitting the content of the given {@link Publisher}.
+     *
+     * @param <T> the type of the content.
+     * @param content must not be {@literal null}.
+     * @param links the links of the collection.
+     * @return the model.
+     */
+    public static <T> SirenReactiveCollectionModel<T> of(Publisher<T> content, Link... links) {
+        return of(content, Links.of(links));
+    }
+
+    /**
+     * Creates a new {@link SirenReactiveCollectionModel} emitting the content of the given {@link Publisher}.
+     *
+     * @param <T> the type of the content.
+     * @param content must not be {@literal null}.
+     * @param links must not be {@literal null}.
+     * @return the model.
+     */
+    public static <T> SirenReactiveCollectionModel<T> of(Publisher<T> content, Iterable<Link> links) {
+        return new SirenReactiveCollectionModel<>(content, Links.of(links));
+    }
+}
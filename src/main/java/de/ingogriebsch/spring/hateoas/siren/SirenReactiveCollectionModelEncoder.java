@@ -0,0 +1,240 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static com.fasterxml.jackson.core.JsonToken.END_OBJECT;
+import static com.google.common.collect.Lists.newArrayList;
+import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_JSON;
+import static de.ingogriebsch.spring.hateoas.siren.SirenEntityWriter.ACTIONS;
+import static de.ingogriebsch.spring.hateoas.siren.SirenEntityWriter.ENTITIES;
+import static de.ingogriebsch.spring.hateoas.siren.SirenEntityWriter.LINKS;
+import static de.ingogriebsch.spring.hateoas.siren.SirenEntityWriter.TITLE;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link Encoder} implementation which is able to encode a {@link SirenReactiveCollectionModel} into a Siren entity without
+ * collecting its content upfront.
+ * <p>
+ * The envelope of the collection is rendered by the Siren serializers of the given {@link ObjectMapper} for an empty
+ * {@link CollectionModel} holding the same links. The items are written in between as embedded entities while they are emitted,
+ * each of them into its own {@link DataBuffer}. Because exactly one buffer is produced per item, the demand of the consumer of
+ * the buffers is propagated to the content.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenReactiveCollectionModel
+ */
+@RequiredArgsConstructor
+class SirenReactiveCollectionModelEncoder implements Encoder<SirenReactiveCollectionModel<?>> {
+
+    private static final List<MimeType> MIME_TYPES = newArrayList(SIREN_JSON);
+
+    @NonNull
+    private final ObjectMapper objectMapper;
+    @NonNull
+    private final SirenMetrics metrics;
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        return SirenReactiveCollectionModel.class.isAssignableFrom(elementType.toClass())
+                && (mimeType == null || MIME_TYPES.stream().anyMatch(m -> m.isCompatibleWith(mimeType)));
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<? extends SirenReactiveCollectionModel<?>> inputStream,
+        DataBufferFactory bufferFactory, ResolvableType elementType, @Nullable MimeType mimeType,
+        @Nullable Map<String, Object> hints) {
+        return Flux.from(inputStream).concatMap(model -> encode(model, bufferFactory));
+    }
+
+    @Override
+    public List<MimeType> getEncodableMimeTypes() {
+        return MIME_TYPES;
+    }
+
+    private Flux<DataBuffer> encode(SirenReactiveCollectionModel<?> model, DataBufferFactory bufferFactory) {
+        return Flux.using( //
+            () -> new CollectionWriter(model, bufferFactory), //
+            writer -> Flux.from(model.getContent()).map(writer::item).concatWith(Mono.fromCallable(writer::end)), //
+            CollectionWriter::close);
+    }
+
+    /**
+     * Writes a single {@link SirenReactiveCollectionModel}. The same {@link JsonGenerator} is used for all parts of the entity,
+     * only the bytes it produced so far are handed over after each part.
+     */
+    private class CollectionWriter {
+
+        private final ByteArrayBuilder output = new ByteArrayBuilder();
+        private final DataBufferFactory bufferFactory;
+        private final JsonParser envelope;
+        private final JsonGenerator generator;
+        private final ObjectWriter itemWriter;
+        private final SirenSerializationContext context = SirenSerializationContext.streamed();
+        private long writtenBytes;
+        private boolean started;
+
+        CollectionWriter(SirenReactiveCollectionModel<?> model, DataBufferFactory bufferFactory) throws IOException {
+            CollectionModel<?> collectionModel = CollectionModel.empty(model.getLinks());
+
+            // The collection is the root of the document, so its statistics cover the envelope as well as all of the items.
+            SirenEvents.Serialization event = new SirenEvents.Serialization();
+            if (metrics.isEnabled() || event.isEnabled()) {
+                event.modelType = model.getClass();
+                event.begin();
+                context.startStatistics(System.nanoTime(), 0, event);
+            }
+
+            ObjectWriter writer = objectMapper.writer().withAttribute(SirenSerializationContext.class, context);
+            TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+            writer.writeValue(tokens, collectionModel);
+            context.enter(collectionModel);
+
+            this.bufferFactory = bufferFactory;
+            this.envelope = tokens.asParser();
+            this.envelope.nextToken();
+            this.generator = objectMapper.createGenerator(output);
+            this.itemWriter = writer;
+        }
+
+        DataBuffer item(Object item) {
+            try {
+                if (!started) {
+                    writeHead();
+                    generator.writeFieldName(ENTITIES);
+                    generator.writeStartArray();
+                    started = true;
+                }
+                itemWriter.writeValue(generator, item);
+                return flush();
+            } catch (IOException e) {
+                throw new EncodingException("Encoding an item of the Siren collection failed!", e);
+            }
+        }
+
+        DataBuffer end() throws IOException {
+            if (started) {
+                generator.writeEndArray();
+            } else {
+                writeHead();
+            }
+            writeTail();
+            DataBuffer buffer = flush();
+
+            context.leave();
+            SirenSerializationContext.Statistics statistics = context.stopStatistics();
+            if (statistics != null) {
+                AbstractSirenSerializer.record(metrics, SirenMetrics.kind(CollectionModel.class), statistics, writtenBytes);
+            }
+            return buffer;
+        }
+
+        void close() {
+            try {
+                envelope.close();
+                generator.close();
+            } catch (IOException e) {
+                // Ignored on purpose as nothing that is written while closing is handed over anymore.
+            } finally {
+                output.release();
+            }
+        }
+
+        /**
+         * Writes the members of the envelope which precede the {@literal entities}. Stops at the first member that follows them.
+         */
+        private void writeHead() throws IOException {
+            generator.copyCurrentEvent(envelope);
+            JsonToken token = envelope.nextToken();
+            while (token != END_OBJECT && !followsEntities(envelope.getCurrentName())) {
+                generator.copyCurrentEvent(envelope);
+                envelope.nextToken();
+                generator.copyCurrentStructure(envelope);
+                token = envelope.nextToken();
+            }
+        }
+
+        private void writeTail() throws IOException {
+            while (envelope.currentToken() != null) {
+                generator.copyCurrentEvent(envelope);
+                envelope.nextToken();
+            }
+        }
+
+        private DataBuffer flush() throws IOException {
+            generator.flush();
+            byte[] bytes = output.toByteArray();
+            output.reset();
+            writtenBytes += bytes.length;
+            return bufferFactory.wrap(bytes);
+        }
+    }
+
+    private static boolean followsEntities(String name) {
+        return LINKS.getValue().equals(name) || ACTIONS.getValue().equals(name) || TITLE.getValue().equals(name);
+    }
+
+    /**
+     * {@link EncoderHttpMessageWriter} which hands the buffers of the {@link SirenReactiveCollectionModelEncoder} over to the
+     * message one by one. The default implementation expects a single buffer if a single value is written.
+     *
+     * @author Ingo Griebsch
+     * @since 1.4.0
+     */
+    static class MessageWriter extends EncoderHttpMessageWriter<SirenReactiveCollectionModel<?>> {
+
+        MessageWriter(SirenReactiveCollectionModelEncoder encoder) {
+            super(encoder);
+        }
+
+        @Override
+        public Mono<Void> write(Publisher<? extends SirenReactiveCollectionModel<?>> inputStream, ResolvableType elementType,
+            @Nullable MediaType mediaType, ReactiveHttpOutputMessage message, Map<String, Object> hints) {
+
+            MediaType contentType = mediaType != null && mediaType.isConcrete() ? mediaType : SIREN_JSON;
+            message.getHeaders().setContentType(contentType);
+
+            return message.writeWith(getEncoder().encode(inputStream, message.bufferFactory(), elementType, contentType, hints));
+        }
+    }
+}
@@ -44,6 +44,7 @@ class SirenRepresentationModelBuilder {
     private final RepresentationModelFactory modelFactory;
     private final SirenLinkConverter linkConverter;
 
+    private RepresentationModel<?> model;
     private Map<String, Object> properties = newHashMap();
     private List<SirenAction> actions = newArrayList();
     private List<SirenLink> links = newArrayList();
@@ -58,6 +59,15 @@ class SirenRepresentationModelBuilder {
         return this;
     }
 
+    /**
+     * Sets a model that was already instantiated (and whose properties were already bound) by the caller. The model is completed
+     * with the links instead of creating a new one through the {@link RepresentationModelFactory}.
+     */
+    SirenRepresentationModelBuilder model(RepresentationModel<?> model) {
+        this.model = model;
+        return this;
+    }
+
     SirenRepresentationModelBuilder links(@Nullable List<SirenLink> links) {
         this.links = links != null ? links : newArrayList();
         return this;
@@ -69,6 +79,9 @@ class SirenRepresentationModelBuilder {
     }
 
     RepresentationModel<?> build() {
+        if (model != null) {
+            return model.add(links());
+        }
         return modelFactory.create(type, links(), properties);
     }
 
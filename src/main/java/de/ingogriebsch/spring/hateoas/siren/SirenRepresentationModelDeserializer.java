@@ -15,23 +15,35 @@
  */
 package de.ingogriebsch.spring.hateoas.siren;
 
+import static java.lang.String.format;
+
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
 import static com.fasterxml.jackson.databind.type.TypeFactory.defaultInstance;
-import static com.google.common.collect.Maps.newHashMap;
 import static de.ingogriebsch.spring.hateoas.siren.SirenRepresentationModelBuilder.builder;
 
 import java.io.IOException;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import org.springframework.hateoas.Links;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.lang.Nullable;
 
 /**
  * {@link JsonDeserializer} implementation which is able to deserialize a Siren entity into a {@link RepresentationModel}.
+ * <p>
+ * The entity is read in a single pass. If the default {@link RepresentationModelFactory} is in use, the model is instantiated
+ * upfront and its properties are bound through the bean deserializer of the model type. Otherwise the properties are collected
+ * into a {@link Map} which is handed to the custom factory.
  * 
  * @author Ingo Griebsch
  * @since 1.0.0
@@ -42,6 +54,11 @@ class SirenRepresentationModelDeserializer extends AbstractSirenDeserializer<Rep
     private static final long serialVersionUID = -3683235541542548855L;
     private static final JavaType TYPE = defaultInstance().constructType(RepresentationModel.class);
 
+    @Nullable
+    private final JsonDeserializer<Object> propertiesDeserializer;
+    @Nullable
+    private final JsonDeserializer<Object> beanDeserializer;
+
     SirenRepresentationModelDeserializer(SirenConfiguration configuration, SirenDeserializerFacilities deserializerFacilities) {
         this(configuration, deserializerFacilities, TYPE);
     }
@@ -49,37 +66,114 @@ class SirenRepresentationModelDeserializer extends AbstractSirenDeserializer<Rep
     SirenRepresentationModelDeserializer(SirenConfiguration configuration, SirenDeserializerFacilities deserializerFacilities,
         JavaType contentType) {
         super(configuration, deserializerFacilities, contentType);
+        this.propertiesDeserializer = null;
+        this.beanDeserializer = null;
+    }
+
+    private SirenRepresentationModelDeserializer(SirenConfiguration configuration,
+        SirenDeserializerFacilities deserializerFacilities, JavaType contentType, DeserializationContext ctxt)
+        throws JsonMappingException {
+        super(configuration, deserializerFacilities, contentType, ctxt);
+        this.propertiesDeserializer = ctxt.findRootValueDeserializer(PROPERTIES_TYPE);
+        this.beanDeserializer = isDefault(deserializerFacilities.getRepresentationModelFactories().forRepresentationModel())
+            ? beanDeserializer(contentType, ctxt) : null;
     }
 
     @Override
-    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, @Nullable BeanProperty property) {
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, @Nullable BeanProperty property)
+        throws JsonMappingException {
         JavaType contentType = property == null ? ctxt.getContextualType() : property.getType().getContentType();
-        return new SirenRepresentationModelDeserializer(configuration, deserializerFacilities, contentType);
+        return new SirenRepresentationModelDeserializer(configuration, deserializerFacilities, contentType, ctxt);
     }
 
     @Override
     protected RepresentationModel<?> deserializeModel(JsonParser jp, DeserializationContext ctxt) throws IOException {
-        SirenEntity sirenEntity = jp.getCodec().readValue(jp, SirenEntity.class);
+        RepresentationModelFactory modelFactory = getRepresentationModelFactories().forRepresentationModel();
+        SirenRepresentationModelBuilder builder = builder(contentType, modelFactory, getLinkConverter());
 
-        SirenRepresentationModelBuilder builder =
-            builder(contentType, getRepresentationModelFactories().forRepresentationModel(), getLinkConverter());
+        RepresentationModel<?> model = null;
+        if (beanDeserializer != null) {
+            model = modelFactory.create(contentType, Links.NONE, null);
+            builder.model(model);
+        }
 
-        return builder.properties(properties(sirenEntity)) //
-            .links(sirenEntity.getLinks()) //
-            .actions(sirenEntity.getActions()) //
-            .build();
+        String name;
+        while ((name = jp.nextFieldName()) != null) {
+            switch (name) {
+                case PROPERTIES:
+                    if (model != null) {
+                        deserializeProperties(jp, ctxt, model);
+                    } else {
+                        builder.properties(deserializeProperties(jp, ctxt));
+                    }
+                    break;
+                case LINKS:
+                    builder.links(deserializeLinks(jp, ctxt));
+                    break;
+                case ACTIONS:
+                    builder.actions(deserializeActions(jp, ctxt));
+                    break;
+                default:
+                    skipMember(jp);
+            }
+        }
+        verifyEndOfEntity(jp);
+        return builder.build();
+    }
+
+    private void deserializeProperties(JsonParser jp, DeserializationContext ctxt, RepresentationModel<?> model)
+        throws IOException {
+        if (START_OBJECT.equals(jp.nextToken())) {
+            beanDeserializer.deserialize(jp, ctxt, model);
+        } else {
+            jp.skipChildren();
+        }
     }
 
     @SuppressWarnings("unchecked")
-    private Map<String, Object> properties(SirenEntity sirenEntity) {
-        Object properties = sirenEntity.getProperties();
-        if (properties == null) {
-            return newHashMap();
+    private Map<String, Object> deserializeProperties(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        JsonDeserializer<Object> deserializer = getDeserializer(propertiesDeserializer, PROPERTIES_TYPE, jp, ctxt);
+
+        JsonToken nextToken = jp.nextToken();
+        if (!START_OBJECT.equals(nextToken)) {
+            throw new JsonParseException(jp, format("Token does not represent '%s' [but '%s']!", START_OBJECT, nextToken));
+        }
+
+        return (Map<String, Object>) deserializer.deserialize(jp, ctxt);
+    }
+
+    /**
+     * Returns the plain bean deserializer of the given type, i.e. the one Jackson would use if the type was not handled by this
+     * deserializer. Properties the type does not know are ignored the same way the default {@link RepresentationModelFactory}
+     * ignores them.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static JsonDeserializer<Object> beanDeserializer(JavaType type, DeserializationContext ctxt) {
+        try {
+            JsonDeserializer<?> deserializer =
+                ctxt.getFactory().createBeanDeserializer(ctxt, type, ctxt.getConfig().introspect(type));
+            if (!(deserializer instanceof BeanDeserializerBase)) {
+                return null;
+            }
+
+            deserializer = ((BeanDeserializerBase) deserializer).withIgnoreAllUnknown(true);
+            if (deserializer instanceof ResolvableDeserializer) {
+                ((ResolvableDeserializer) deserializer).resolve(ctxt);
+            }
+            return (JsonDeserializer<Object>) ctxt.handleSecondaryContextualization(deserializer, null, type);
+        } catch (JsonMappingException e) {
+            // The type cannot be bound as a bean, so its properties are applied through the factory.
+            return null;
         }
+    }
 
-        if (Map.class.isAssignableFrom(properties.getClass())) {
-            return (Map<String, Object>) properties;
+    private static boolean isDefault(RepresentationModelFactory factory) {
+        try {
+            return RepresentationModelFactory.class
+                .equals(factory.getClass().getMethod("create", JavaType.class, Iterable.class, Map.class).getDeclaringClass());
+        } catch (NoSuchMethodException e) {
+            return false;
         }
-        return extractProperties(properties);
     }
 }
@@ -16,12 +16,13 @@
 package de.ingogriebsch.spring.hateoas.siren;
 
 import java.io.IOException;
-import java.util.Map;
+import java.util.List;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.lang.Nullable;
 
@@ -52,30 +53,30 @@ class SirenRepresentationModelSerializer extends AbstractSirenSerializer<Represe
 
     @Override
     public void serialize(RepresentationModel<?> model, JsonGenerator gen, SerializerProvider provider) throws IOException {
-        SirenNavigables navigables = getLinkConverter().to(model.getLinks());
+        SirenSerializationContext context = context(provider);
+        List<LinkRelation> rels = rels(model, context);
 
-        SirenEntity sirenEntity = SirenEntity.builder() //
-            .actions(navigables.getActions()) //
-            .classes(classes(model)) //
-            .links(navigables.getLinks()) //
-            .properties(properties(model)) //
-            .rels(rels(model, provider)) //
-            .title(title(model.getClass())) //
-            .build();
-
-        JsonSerializer<Object> serializer = provider.findValueSerializer(SirenEntity.class, property);
-
-        Object parent = setAttribute(ATTR_KEY_PARENT, model, provider);
+        if (!enter(model, rels, context, gen)) {
+            return;
+        }
         try {
-            serializer.serialize(sirenEntity, gen, provider);
+            SirenNavigables navigables = navigables(model, context);
+            entityWriter(gen, provider) //
+                .start(model) //
+                .classes(classes(model)) //
+                .rels(rels) //
+                .properties(properties(model, context)) //
+                .links(navigables.getLinks()) //
+                .actions(navigables.getActions()) //
+                .title(title(model.getClass(), context)) //
+                .end();
         } finally {
-            setAttribute(ATTR_KEY_PARENT, parent, provider);
+            leave(context, gen);
         }
     }
 
-    private Map<String, Object> properties(RepresentationModel<?> model) {
-        Map<String, Object> properties = extractProperties(model);
-        return properties.isEmpty() ? null : properties;
+    private Object properties(RepresentationModel<?> model, SirenSerializationContext context) {
+        return writableProperties(context, model);
     }
 
 }
@@ -0,0 +1,272 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.SerializerProvider;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.lang.Nullable;
+
+/**
+ * State that is shared between the Siren serializers while a single root value is serialized.
+ * <p>
+ * The context is created once per root write and attached to the {@link SerializerProvider} of that write. Afterwards it is
+ * mutated in place while the (nested) entities are written.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ */
+@NoArgsConstructor(access = PRIVATE)
+class SirenSerializationContext {
+
+    private final Deque<RepresentationModel<?>> parents = new ArrayDeque<>();
+    private final Deque<SirenProjection> projections = new ArrayDeque<>();
+    private List<LinkRelation> pendingRels;
+    private int depth;
+    @Nullable
+    private Statistics statistics;
+    @Nullable
+    private SirenServerTimings timings;
+    @Nullable
+    private SirenProjection projection;
+    private boolean streamed;
+
+    /**
+     * Returns the context belonging to the serialization the given provider is used for. Creates the context if not already
+     * available.
+     *
+     * @param provider the provider of the current serialization.
+     * @return the context. Will never be {@literal null}.
+     */
+    static SirenSerializationContext of(SerializerProvider provider) {
+        SirenSerializationContext context = (SirenSerializationContext) provider.getAttribute(SirenSerializationContext.class);
+        if (context == null) {
+            context = new SirenSerializationContext();
+            context.timings = (SirenServerTimings) provider.getAttribute(SirenServerTimings.class);
+            context.projection = (SirenProjection) provider.getAttribute(SirenProjection.class);
+            provider.setAttribute(SirenSerializationContext.class, context);
+        }
+        return context;
+    }
+
+    /**
+     * Creates a context for a document which is written piece by piece through several serializations, e.g. if the entities of a
+     * collection are emitted by a reactive stream. The serializers neither start nor stop to collect the statistics of such a
+     * document, as only the caller knows when the document starts and ends.
+     *
+     * @return the context. Will never be {@literal null}.
+     */
+    static SirenSerializationContext streamed() {
+        SirenSerializationContext context = new SirenSerializationContext();
+        context.streamed = true;
+        return context;
+    }
+
+    /**
+     * Returns whether the document is written piece by piece.
+     *
+     * @return {@literal true} if the document is written piece by piece, otherwise {@literal false}.
+     * @see #streamed()
+     */
+    boolean isStreamed() {
+        return streamed;
+    }
+
+    /**
+     * Marks the given model as the parent of all entities that are written until {@link #leave()} is called.
+     *
+     * @param model the model whose entity is about to be written.
+     */
+    void enter(RepresentationModel<?> model) {
+        enter(model, SirenProjection.NONE);
+    }
+
+    /**
+     * Marks the given model as the parent of all entities that are written until {@link #leave()} is called, if the projection of
+     * the document asks for the entity of the model at all.
+     *
+     * @param model the model whose entity is about to be written.
+     * @param rels the rels of the entity.
+     * @return {@literal true} if the entity was entered and should be written, otherwise {@literal false}.
+     */
+    boolean enter(RepresentationModel<?> model, List<LinkRelation> rels) {
+        SirenProjection current = projections.isEmpty() ? root() : projections.peek().child(rels);
+        if (current == null) {
+            return false;
+        }
+
+        enter(model, current);
+        return true;
+    }
+
+    private void enter(RepresentationModel<?> model, SirenProjection current) {
+        parents.push(model);
+        projections.push(current);
+        depth++;
+        if (statistics != null) {
+            statistics.entered(depth);
+        }
+    }
+
+    /**
+     * Restores the parent that was active before the last call of {@link #enter(RepresentationModel)}.
+     */
+    void leave() {
+        parents.pop();
+        projections.pop();
+        depth--;
+    }
+
+    /**
+     * Returns the accumulator of the rendering phases if the written document should be timed.
+     *
+     * @return the accumulator or {@literal null} if the document should not be timed.
+     */
+    @Nullable
+    SirenServerTimings timings() {
+        return timings;
+    }
+
+    /**
+     * Returns the projection of the entity that is currently written.
+     *
+     * @return the projection. Will never be {@literal null}.
+     */
+    SirenProjection projection() {
+        SirenProjection current = projections.peek();
+        return current != null ? current : root();
+    }
+
+    @Nullable
+    RepresentationModel<?> parent() {
+        return parents.peek();
+    }
+
+    /**
+     * Returns the number of entities that are currently written, i.e. {@literal 0} before the root entity is entered.
+     *
+     * @return the current depth.
+     */
+    int depth() {
+        return depth;
+    }
+
+    /**
+     * Starts to collect statistics about the entities that are written from now on until {@link #stopStatistics()} is called.
+     *
+     * @param start the point in time (in nanoseconds) the writing started.
+     * @param position the number of bytes written so far or a negative number if unknown.
+     * @param event the flight recorder event covering the document.
+     */
+    void startStatistics(long start, long position, SirenEvents.Serialization event) {
+        statistics = new Statistics(start, position, event);
+    }
+
+    /**
+     * Adds the given navigables of the entity that is currently written to the statistics, if collected.
+     *
+     * @param navigables the links and actions of the current entity.
+     */
+    void count(SirenNavigables navigables) {
+        if (statistics != null) {
+            statistics.counted(navigables);
+        }
+    }
+
+    /**
+     * Returns and clears the statistics collected since {@link #startStatistics(long, long, SirenEvents.Serialization)} was
+     * called.
+     *
+     * @return the statistics or {@literal null} if none are collected.
+     */
+    @Nullable
+    Statistics stopStatistics() {
+        Statistics former = statistics;
+        statistics = null;
+        return former;
+    }
+
+    /**
+     * Defines the rels that should be used for the next entity that is written instead of asking the
+     * {@link SirenEntityRelProvider}.
+     *
+     * @param rels the rels of the next entity.
+     * @return the rels that were pending before.
+     */
+    @Nullable
+    List<LinkRelation> pendingRels(@Nullable List<LinkRelation> rels) {
+        List<LinkRelation> former = pendingRels;
+        pendingRels = rels;
+        return former;
+    }
+
+    /**
+     * Returns and clears the rels that were defined for the next entity.
+     *
+     * @return the pending rels or {@literal null} if none are defined.
+     */
+    @Nullable
+    List<LinkRelation> takePendingRels() {
+        List<LinkRelation> rels = pendingRels;
+        pendingRels = null;
+        return rels;
+    }
+
+    private SirenProjection root() {
+        return projection != null ? projection : SirenProjection.NONE;
+    }
+
+    /**
+     * Statistics about the entities written as part of a single document.
+     */
+    @Getter
+    static class Statistics {
+
+        private final long start;
+        private final long position;
+        private final SirenEvents.Serialization event;
+        private int entities;
+        private int links;
+        private int actions;
+        private int depth;
+
+        Statistics(long start, long position, SirenEvents.Serialization event) {
+            this.start = start;
+            this.position = position;
+            this.event = event;
+        }
+
+        private void entered(int depth) {
+            if (depth > 1) {
+                entities++;
+            }
+            this.depth = Math.max(this.depth, depth);
+        }
+
+        private void counted(SirenNavigables navigables) {
+            links += navigables.getLinks().size();
+            actions += navigables.getActions().size();
+        }
+    }
+}
@@ -32,5 +32,6 @@ class SirenSerializerFacilities {
     PropertiesFacility propertiesFacility;
     SirenLinkConverter linkConverter;
     MessageResolver messageResolver;
+    SirenMetrics metrics;
 
 }
@@ -0,0 +1,109 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Hints;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+/**
+ * {@link Jackson2JsonEncoder} that adds a {@literal Server-Timing} header to Siren responses which breaks down the time spent
+ * rendering them. The header is only added to responses which are rendered in one piece before the response is committed, i.e.
+ * single values, and whose size does not exceed the configured maximum.
+ * <p>
+ * The encoder only supports {@link RepresentationModel}s so that it is registered in front of the default JSON encoder. It
+ * takes the place of the {@link SirenProjectionEncoder} and therefore applies projections as well.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenConfiguration#withServerTimingMaximumBodySize(int)
+ * @see SirenServerTimings
+ */
+class SirenServerTimingEncoder extends SirenProjectionEncoder {
+
+    private static final String RESPONSE_HINT = SirenServerTimingEncoder.class.getName() + ".RESPONSE";
+    private static final String TIMINGS_HINT = SirenServerTimingEncoder.class.getName() + ".TIMINGS";
+
+    private final int maximumBodySize;
+
+    SirenServerTimingEncoder(ObjectMapper mapper, boolean projectionEnabled, int maximumBodySize) {
+        super(mapper, projectionEnabled);
+        this.maximumBodySize = maximumBodySize;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.http.codec.json.AbstractJackson2Encoder#getEncodeHints(org.springframework.core.ResolvableType,
+     * org.springframework.core.ResolvableType, org.springframework.http.MediaType,
+     * org.springframework.http.server.reactive.ServerHttpRequest, org.springframework.http.server.reactive.ServerHttpResponse)
+     */
+    @Override
+    public Map<String, Object> getEncodeHints(@Nullable ResolvableType actualType, ResolvableType elementType,
+        @Nullable MediaType mediaType, ServerHttpRequest request, ServerHttpResponse response) {
+        return Hints.merge(super.getEncodeHints(actualType, elementType, mediaType, request, response), RESPONSE_HINT, response);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.http.codec.json.AbstractJackson2Encoder#encodeValue(java.lang.Object,
+     * org.springframework.core.io.buffer.DataBufferFactory, org.springframework.core.ResolvableType,
+     * org.springframework.util.MimeType, java.util.Map)
+     */
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+        @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        ServerHttpResponse response = hints != null ? (ServerHttpResponse) hints.get(RESPONSE_HINT) : null;
+        if (response == null || response.isCommitted() || !(value instanceof RepresentationModel)) {
+            return super.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+        }
+
+        SirenServerTimings timings = new SirenServerTimings();
+        long start = System.nanoTime();
+        DataBuffer buffer =
+            super.encodeValue(value, bufferFactory, valueType, mimeType, Hints.merge(hints, TIMINGS_HINT, timings));
+        long total = System.nanoTime() - start;
+
+        if (buffer.readableByteCount() <= maximumBodySize) {
+            response.getHeaders().add(SirenServerTimings.HEADER, timings.toHeaderValue(total));
+        }
+        return buffer;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.http.codec.json.Jackson2JsonEncoder#customizeWriter(com.fasterxml.jackson.databind.ObjectWriter,
+     * org.springframework.util.MimeType, org.springframework.core.ResolvableType, java.util.Map)
+     */
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, @Nullable MimeType mimeType, ResolvableType elementType,
+        @Nullable Map<String, Object> hints) {
+        writer = super.customizeWriter(writer, mimeType, elementType, hints);
+        SirenServerTimings timings = hints != null ? (SirenServerTimings) hints.get(TIMINGS_HINT) : null;
+        return timings != null ? writer.withAttribute(SirenServerTimings.class, timings) : writer;
+    }
+}
@@ -0,0 +1,186 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_JSON;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * {@link ResponseBodyAdvice} that renders Siren responses upfront to be able to add a {@literal Server-Timing} header that breaks
+ * down the time spent rendering them. Responses whose size exceeds the configured maximum are left to the message converter and
+ * therefore written without the header. As the advice writes the body itself, it hands {@literal null} on as the body to the
+ * advices that are ordered after it.
+ * <p>
+ * The advice applies the {@link SirenProjection projection} the client asked for, if enabled, and is therefore ordered before
+ * the {@link SirenProjectionResponseBodyAdvice}.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenConfiguration#withServerTimingMaximumBodySize(int)
+ * @see SirenServerTimings
+ */
+@ControllerAdvice
+class SirenServerTimingResponseBodyAdvice implements ResponseBodyAdvice<Object>, Ordered {
+
+    private final int maximumBodySize;
+    private final boolean projectionEnabled;
+    @Nullable
+    private final ObjectMapper objectMapper;
+
+    SirenServerTimingResponseBodyAdvice(SirenMediaTypeConfiguration configuration, ObjectMapper mapper) {
+        this.maximumBodySize = configuration.getConfiguration().getServerTimingMaximumBodySize();
+        this.projectionEnabled = configuration.getConfiguration().isProjectionEnabled();
+        this.objectMapper = maximumBodySize > 0 ? configuration.configureObjectMapper(mapper.copy()) : null;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.core.Ordered#getOrder()
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice#supports(org.springframework.core.
+     * MethodParameter, java.lang.Class)
+     */
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return objectMapper != null && AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice#beforeBodyWrite(java.lang.Object,
+     * org.springframework.core.MethodParameter, org.springframework.http.MediaType, java.lang.Class,
+     * org.springframework.http.server.ServerHttpRequest, org.springframework.http.server.ServerHttpResponse)
+     */
+    @Override
+    @Nullable
+    public Object beforeBodyWrite(@Nullable Object body, MethodParameter returnType, MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof RepresentationModel) || !SIREN_JSON.isCompatibleWith(selectedContentType)) {
+            return body;
+        }
+
+        SirenServerTimings timings = new SirenServerTimings();
+        ObjectWriter writer = objectMapper.writer().withAttribute(SirenServerTimings.class, timings);
+        SirenProjection projection = projectionEnabled ? SirenProjectionResponseBodyAdvice.projection(request) : null;
+        if (projection != null) {
+            writer = writer.withAttribute(SirenProjection.class, projection);
+        }
+        BoundedOutputStream out = new BoundedOutputStream(maximumBodySize);
+
+        long start = System.nanoTime();
+        try {
+            writer.writeValue(out, body);
+        } catch (IOException e) {
+            if (BoundedOutputStream.isExceeded(e)) {
+                return body;
+            }
+            throw new HttpMessageNotWritableException("Could not write JSON: " + e.getMessage(), e);
+        }
+        long total = System.nanoTime() - start;
+
+        HttpHeaders headers = response.getHeaders();
+        headers.setContentType(selectedContentType);
+        headers.setContentLength(out.size());
+        headers.add(SirenServerTimings.HEADER, timings.toHeaderValue(total));
+        try {
+            out.writeTo(response.getBody());
+        } catch (IOException e) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + e.getMessage(), e);
+        }
+
+        // The body is already written, so there is nothing left to do for the message converter.
+        return null;
+    }
+
+    /**
+     * {@link OutputStream} which buffers the written bytes but refuses to grow beyond a maximum size.
+     */
+    private static class BoundedOutputStream extends OutputStream {
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final int maximumSize;
+
+        BoundedOutputStream(int maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureCapacity(1);
+            buffer.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureCapacity(len);
+            buffer.write(b, off, len);
+        }
+
+        int size() {
+            return buffer.size();
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            buffer.writeTo(out);
+        }
+
+        private void ensureCapacity(int len) throws SizeExceededException {
+            if (buffer.size() + len > maximumSize) {
+                throw new SizeExceededException();
+            }
+        }
+
+        static boolean isExceeded(Throwable throwable) {
+            for (Throwable t = throwable; t != null; t = t.getCause()) {
+                if (t instanceof SizeExceededException) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class SizeExceededException extends IOException {
+
+        private static final long serialVersionUID = 4405924424004371389L;
+    }
+}
@@ -0,0 +1,72 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static java.lang.Math.max;
+import static java.util.Locale.ROOT;
+
+/**
+ * Accumulator of the time spent in the different phases of rendering a single Siren response, which is able to render the
+ * accumulated times as the value of a {@literal Server-Timing} header.
+ * <p>
+ * An instance is handed over to the serializers as an attribute of the {@link com.fasterxml.jackson.databind.ObjectWriter} that
+ * writes the response and is picked up by the {@link SirenSerializationContext}. The time spent resolving the titles of links,
+ * actions and fields is part of the link and action conversion, the title lookup only covers the titles of the entities. The
+ * property extraction covers reading the properties from the underlying objects as well as writing them, as they are mostly
+ * read while they are streamed into the generator. The JSON writing covers everything else.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenConfiguration#withServerTimingMaximumBodySize(int)
+ */
+class SirenServerTimings {
+
+    static final String HEADER = "Server-Timing";
+
+    private long links;
+    private long properties;
+    private long titles;
+
+    void links(long duration) {
+        links += duration;
+    }
+
+    void properties(long duration) {
+        properties += duration;
+    }
+
+    void titles(long duration) {
+        titles += duration;
+    }
+
+    /**
+     * Renders the accumulated times as the value of a {@literal Server-Timing} header.
+     *
+     * @param total the time (in nanoseconds) it took to render the whole response.
+     * @return the value of the header. Will never be {@literal null}.
+     */
+    String toHeaderValue(long total) {
+        long json = max(0, total - links - properties - titles);
+        return metric("siren-links", links, "Link and action conversion") + ", " //
+                + metric("siren-properties", properties, "Property extraction") + ", " //
+                + metric("siren-titles", titles, "Title lookup") + ", " //
+                + metric("siren-json", json, "JSON writing");
+    }
+
+    private static String metric(String name, long duration, String description) {
+        return String.format(ROOT, "%s;dur=%.3f;desc=\"%s\"", name, duration / 1_000_000d, description);
+    }
+}
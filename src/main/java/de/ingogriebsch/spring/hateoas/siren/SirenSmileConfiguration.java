@@ -0,0 +1,35 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * A Spring based configuration that enables Siren in the binary Smile format next to its JSON representation.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenSmileMappingInformation
+ */
+@Configuration(proxyBeanMethods = false)
+class SirenSmileConfiguration {
+
+    @Bean
+    SirenSmileMappingInformation sirenSmileMappingInformation(SirenMediaTypeConfiguration configuration) {
+        return new SirenSmileMappingInformation(configuration);
+    }
+}
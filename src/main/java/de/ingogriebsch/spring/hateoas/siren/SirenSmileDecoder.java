@@ -0,0 +1,52 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_SMILE;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.ResolvableType;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+/**
+ * {@link Jackson2SmileDecoder} that reads {@link RepresentationModel}s from {@link MediaTypes#SIREN_SMILE}.
+ * <p>
+ * The decoder neither supports other types nor the generic Smile media types, so the default Smile decoder of the application
+ * is left untouched.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenSmileMappingInformation
+ */
+class SirenSmileDecoder extends Jackson2SmileDecoder {
+
+    SirenSmileDecoder(ObjectMapper mapper) {
+        super(mapper, SIREN_SMILE);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.http.codec.json.AbstractJackson2Decoder#canDecode(org.springframework.core.ResolvableType,
+     * org.springframework.util.MimeType)
+     */
+    @Override
+    public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        return RepresentationModel.class.isAssignableFrom(elementType.toClass()) && super.canDecode(elementType, mimeType);
+    }
+}
@@ -0,0 +1,65 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_SMILE;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+/**
+ * Mapping information for Siren in the binary Smile format. The entities are the same as the ones of
+ * {@link MediaTypes#SIREN_JSON}, they are just written and read through a {@link SmileFactory} instead of a JSON based one.
+ * <p>
+ * This is deliberately no {@link org.springframework.hateoas.config.HypermediaMappingInformation}, as Spring HATEOAS only
+ * registers those for JSON based media types. The Siren specific message converter and codecs are registered instead by
+ * {@link SirenWebMvcConfiguration} and {@link SirenWebFluxConfiguration}.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenMediaTypeConfiguration
+ */
+@RequiredArgsConstructor
+class SirenSmileMappingInformation {
+
+    @NonNull
+    private final SirenMediaTypeConfiguration configuration;
+
+    /**
+     * Returns the media types supported by this mapping.
+     *
+     * @return the supported media types
+     */
+    List<MediaType> getMediaTypes() {
+        return newArrayList(SIREN_SMILE);
+    }
+
+    /**
+     * Returns a Smile based copy of the given {@link ObjectMapper} that is configured to read and write Siren entities.
+     *
+     * @param mapper the {@link ObjectMapper} to copy, must not be {@literal null}
+     * @return the configured copy
+     */
+    ObjectMapper configureObjectMapper(@NonNull ObjectMapper mapper) {
+        return configuration.configureObjectMapper(mapper.copyWith(new SmileFactory()));
+    }
+}
@@ -0,0 +1,193 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static java.util.Collections.emptyList;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.stream.StreamSupport.stream;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import lombok.NonNull;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+
+/**
+ * A {@link CollectionModel} whose content is pulled lazily from a {@link Stream} (or an {@link Iterator}) while the model is
+ * serialized into a Siren entity. Each item is written as an embedded entity as soon as it is produced, so the content is never
+ * held in memory as a whole.
+ * <p>
+ * The content can only be consumed once. The underlying stream is closed as soon as the serialization completes or fails, or if
+ * {@link #close()} is called explicitly. Because the content is not materialized, the model can only be rendered as a Siren
+ * entity, i.e. as {@link MediaTypes#SIREN_JSON}. {@link #getContent()} fails for that reason, which makes any other renderer fail
+ * instead of silently writing an empty collection.
+ *
+ * @param <T> the type of the content.
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ */
+public class SirenStreamingCollectionModel<T> extends CollectionModel<T> implements AutoCloseable {
+
+    private final Stream<T> content;
+    private boolean consumed;
+
+    protected SirenStreamingCollectionModel(@NonNull Stream<T> content, @NonNull Iterable<Link> links) {
+        super(emptyList(), links, null);
+        this.content = content;
+    }
+
+    /**
+     * Creates a new {@link SirenStreamingCollectionModel} without links pulling its content from the given {@link Stream}.
+     *
+     * @param <T> the type of the content.
+     * @param content must not be {@literal null}.
+     * @return the model.
+     */
+    public static <T> SirenStreamingCollectionModel<T> of(Stream<T> content) {
+        return of(content, Links.NONE);
+    }
+
+    /**
+     * Creates a new {@link SirenStreamingCollectionModel} pulling its content from the given {@link Stream}.
+     *
+     * @param <T> the type of the content.
+     * @param content must not be {@literal null}.
+     * @param links the links of the model.
+     * @return the model.
+     */
+    public static <T> SirenStreamingCollectionModel<T> of(Stream<T> content, Link... links) {
+        return of(content, Links.of(links));
+    }
+
+    /**
+     * Creates a new {@link SirenStreamingCollectionModel} pulling its content from the given {@link Stream}.
+     *
+     * @param <T> the type of the content.
+     * @param content must not be {@literal null}.
+     * @param links must not be {@literal null}.
+     * @return the model.
+     */
+    public static <T> SirenStreamingCollectionModel<T> of(Stream<T> content, Iterable<Link> links) {
+        return new SirenStreamingCollectionModel<>(content, links);
+    }
+
+    /**
+     * Creates a new {@link SirenStreamingCollectionModel} without links pulling its content from the given {@link Iterator}. If
+     * the iterator is {@link AutoCloseable}, it is closed together with the model.
+     *
+     * @param <T> the type of the content.
+     * @param content must not be {@literal null}.
+     * @return the model.
+     */
+    public static <T> SirenStreamingCollectionModel<T> of(Iterator<T> content) {
+        return of(content, Links.NONE);
+    }
+
+    /**
+     * Creates a new {@link SirenStreamingCollectionModel} pulling its content from the given {@link Iterator}. If the iterator
+     * is {@link AutoCloseable}, it is closed together with the model.
+     *
+     * @param <T> the type of the content.
+     * @param content must not be {@literal null}.
+     * @param links the links of the model.
+     * @return the model.
+     */
+    public static <T> SirenStreamingCollectionModel<T> of(Iterator<T> content, Link... links) {
+        return of(content, Links.of(links));
+    }
+
+    /**
+     * Creates a new {@link SirenStreamingCollectionModel} pulling its content from the given {@link Iterator}. If the iterator
+     * is {@link AutoCloseable}, it is closed together with the model.
+     *
+     * @param <T> the type of the content.
+     * @param content must not be {@literal null}.
+     * @param links must not be {@literal null}.
+     * @return the model.
+     */
+    public static <T> SirenStreamingCollectionModel<T> of(@NonNull Iterator<T> content, Iterable<Link> links) {
+        Stream<T> stream = stream(spliteratorUnknownSize(content, ORDERED), false);
+        if (content instanceof AutoCloseable) {
+            stream = stream.onClose(() -> close((AutoCloseable) content));
+        }
+        return of(stream, links);
+    }
+
+    /**
+     * Returns an {@link Iterator} over the content of the model.
+     *
+     * @return the iterator.
+     * @throws IllegalStateException if the content was already consumed.
+     */
+    @Override
+    public synchronized Iterator<T> iterator() {
+        if (consumed) {
+            throw new IllegalStateException("The content of the streaming collection model was already consumed!");
+        }
+        consumed = true;
+        return content.iterator();
+    }
+
+    /**
+     * Fails, as the content is not materialized and only the Siren serializers know to pull it through {@link #iterator()}. As
+     * the model is obviously rendered some other way, the underlying {@link Stream} is closed before.
+     *
+     * @throws IllegalStateException always.
+     */
+    @Override
+    public Collection<T> getContent() {
+        close();
+        throw new IllegalStateException(
+            String.format("The content of %s is not materialized and can only be rendered as %s!", this, MediaTypes.SIREN_JSON));
+    }
+
+    /**
+     * Closes the underlying {@link Stream} of the model.
+     */
+    @Override
+    public void close() {
+        content.close();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SirenStreamingCollectionModel { links: %s }", getLinks());
+    }
+
+    private static void close(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Closing the content of the streaming collection model failed!", e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static lombok.AccessLevel.PACKAGE;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Statistics about the cache that holds the titles resolved for Siren entities, links, actions and fields.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenConfiguration#withTitleCacheMaximumSize(long)
+ */
+@AllArgsConstructor(access = PACKAGE, staticName = "of")
+@Value
+public class SirenTitleCacheStatistics {
+
+    /**
+     * The statistics of a disabled cache.
+     */
+    static final SirenTitleCacheStatistics EMPTY = of(0, 0, 0, 0);
+
+    /**
+     * The number of lookups that were answered through the cache, including lookups of missing messages.
+     */
+    long hitCount;
+
+    /**
+     * The number of lookups that needed to be resolved through the underlying message source.
+     */
+    long missCount;
+
+    /**
+     * The number of titles that were evicted because the cache reached its maximum size.
+     */
+    long evictionCount;
+
+    /**
+     * The number of titles that are currently cached.
+     */
+    long size;
+
+    /**
+     * Returns the ratio of lookups that were answered through the cache.
+     *
+     * @return the hit rate or {@literal 1.0} if no lookup happened so far.
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
@@ -0,0 +1,67 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * A Spring based configuration that registers the Siren specific codecs in a WebFlux environment, including the ones adding a
+ * {@literal Server-Timing} header to Siren responses and applying projections to them if configured.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenSmileMappingInformation
+ * @see SirenMediaTypeConfiguration#registerReactiveCodecs(org.springframework.http.codec.CodecConfigurer, ObjectMapper)
+ */
+@Configuration(proxyBeanMethods = false)
+class SirenWebFluxConfiguration {
+
+    @Bean
+    WebFluxConfigurer sirenWebFluxConfigurer(SirenMediaTypeConfiguration configuration,
+        ObjectProvider<SirenSmileMappingInformation> smileMappingInformation, ObjectProvider<ObjectMapper> mapper) {
+        return new WebFluxConfigurer() {
+
+            @Override
+            public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+                ObjectMapper objectMapper = mapper.getIfAvailable(ObjectMapper::new);
+                configuration.registerReactiveCodecs(configurer, objectMapper);
+
+                int maximumBodySize = configuration.getConfiguration().getServerTimingMaximumBodySize();
+                boolean projectionEnabled = configuration.getConfiguration().isProjectionEnabled();
+                if (maximumBodySize > 0) {
+                    ObjectMapper sirenMapper = configuration.configureObjectMapper(objectMapper.copy());
+                    configurer.customCodecs()
+                        .register(new SirenServerTimingEncoder(sirenMapper, projectionEnabled, maximumBodySize));
+                } else if (projectionEnabled) {
+                    ObjectMapper sirenMapper = configuration.configureObjectMapper(objectMapper.copy());
+                    configurer.customCodecs().register(new SirenProjectionEncoder(sirenMapper, true));
+                }
+
+                // Custom codecs are placed behind the default ones, so JSON stays the preferred format.
+                smileMappingInformation.ifAvailable(information -> {
+                    ObjectMapper smileMapper = information.configureObjectMapper(objectMapper);
+                    configurer.customCodecs().register(new SirenSmileEncoder(smileMapper));
+                    configurer.customCodecs().register(new SirenSmileDecoder(smileMapper));
+                });
+            }
+        };
+    }
+}
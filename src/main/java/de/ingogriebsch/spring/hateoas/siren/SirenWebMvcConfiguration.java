@@ -0,0 +1,68 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * A Spring based configuration that registers the Siren specific message converters in a Spring MVC environment as well as the
+ * advices adding a {@literal Server-Timing} header to Siren responses and applying projections to them if configured.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see SirenSmileMappingInformation
+ * @see SirenServerTimingResponseBodyAdvice
+ * @see SirenProjectionResponseBodyAdvice
+ */
+@Configuration(proxyBeanMethods = false)
+class SirenWebMvcConfiguration {
+
+    @Bean
+    WebMvcConfigurer sirenWebMvcConfigurer(ObjectProvider<SirenSmileMappingInformation> smileMappingInformation,
+        ObjectProvider<ObjectMapper> mapper) {
+        return new WebMvcConfigurer() {
+
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                // Added last to keep JSON the preferred format if the client accepts any media type.
+                smileMappingInformation.ifAvailable(information -> converters.add( //
+                    new TypeConstrainedMappingJackson2HttpMessageConverter(RepresentationModel.class, information.getMediaTypes(),
+                        information.configureObjectMapper(mapper.getIfAvailable(ObjectMapper::new)))));
+            }
+        };
+    }
+
+    @Bean
+    SirenServerTimingResponseBodyAdvice sirenServerTimingResponseBodyAdvice(SirenMediaTypeConfiguration configuration,
+        ObjectProvider<ObjectMapper> mapper) {
+        return new SirenServerTimingResponseBodyAdvice(configuration, mapper.getIfAvailable(ObjectMapper::new));
+    }
+
+    @Bean
+    SirenProjectionResponseBodyAdvice sirenProjectionResponseBodyAdvice(SirenMediaTypeConfiguration configuration,
+        ObjectProvider<ObjectMapper> mapper) {
+        return new SirenProjectionResponseBodyAdvice(configuration, mapper.getIfAvailable(ObjectMapper::new));
+    }
+}
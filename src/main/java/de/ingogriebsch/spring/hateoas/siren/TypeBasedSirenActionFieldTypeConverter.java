@@ -36,12 +36,15 @@ import java.time.LocalTime;
 import java.time.Month;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.Data;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import org.springframework.hateoas.AffordanceModel.PropertyMetadata;
 import org.springframework.hateoas.mediatype.html.HtmlInputType;
 import org.springframework.http.MediaType;
@@ -77,6 +80,7 @@ class TypeBasedSirenActionFieldTypeConverter implements SirenActionFieldTypeConv
     );
 
     private final List<TypeMapping> mappings;
+    private final Map<Class<?>, Resolution> resolutions = new ConcurrentHashMap<>();
 
     TypeBasedSirenActionFieldTypeConverter() {
         this(null);
@@ -89,10 +93,35 @@ class TypeBasedSirenActionFieldTypeConverter implements SirenActionFieldTypeConv
     @Override
     public Optional<HtmlInputType> execute(@NonNull PropertyMetadata fieldMetadata, @NonNull MediaType actionType) {
         Class<?> type = obtainType(fieldMetadata);
+        return Optional.of(resolve(type));
+    }
+
+    /**
+     * Returns the number of the configured mappings. As mappings are only ever added, the number changes whenever the mappings
+     * do.
+     *
+     * @return the number of the configured mappings.
+     */
+    int mappingCount() {
+        return mappings.size();
+    }
+
+    private HtmlInputType resolve(Class<?> type) {
+        // The mappings are shared with the configuration and may grow afterwards, so a resolution is only valid as long as the
+        // number of mappings it was computed with did not change.
+        int mappingCount = mappings.size();
+        Resolution resolution = resolutions.get(type);
+        if (resolution == null || resolution.getMappingCount() != mappingCount) {
+            resolution = Resolution.of(mappingCount, map(type));
+            resolutions.put(type, resolution);
+        }
+        return resolution.getTarget();
+    }
+
+    private HtmlInputType map(Class<?> type) {
         HtmlInputType result = map(type, mappings);
         result = result != null ? result : map(type, DEFAULT_MAPPINGS);
-        return Optional.ofNullable(result != null ? result : HtmlInputType.TEXT);
-
+        return result != null ? result : HtmlInputType.TEXT;
     }
 
     private static Class<?> obtainType(PropertyMetadata fieldMetadata) {
@@ -107,6 +136,13 @@ class TypeBasedSirenActionFieldTypeConverter implements SirenActionFieldTypeConv
         }
         return null;
     }
+
+    @Value(staticConstructor = "of")
+    private static class Resolution {
+
+        int mappingCount;
+        HtmlInputType target;
+    }
 }
 
 @Data
@@ -0,0 +1,120 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static lombok.AccessLevel.PRIVATE;
+import static org.apache.commons.lang3.StringUtils.substringBeforeLast;
+import static org.apache.commons.lang3.StringUtils.uncapitalize;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.lang.Nullable;
+
+/**
+ * Metadata about a {@link Class} which is needed while serializing and deserializing Siren entities.
+ * <p>
+ * The metadata is computed once per type and attached to the {@link Class} itself through a {@link ClassValue}, so that it does
+ * not prevent the type (and its class loader) from being unloaded.
+ *
+ * @author Ingo Griebsch
+ * @since 1.4.0
+ * @see RepresentationModelUtils
+ */
+@AllArgsConstructor(access = PRIVATE)
+@Getter
+class TypeMetadata {
+
+    // Order on purpose!
+    private static final List<Class<?>> REPRESENTATION_MODEL_TYPES =
+        newArrayList(PagedModel.class, CollectionModel.class, EntityModel.class, RepresentationModel.class);
+
+    private static final ClassValue<TypeMetadata> METADATA = new ClassValue<>() {
+
+        @Override
+        protected TypeMetadata computeValue(Class<?> type) {
+            return TypeMetadata.compute(type);
+        }
+    };
+
+    /**
+     * The {@link RepresentationModel} type the type is assignable to or {@literal null} if the type is not a representation
+     * model.
+     */
+    @Nullable
+    private final Class<? extends RepresentationModel<?>> representationModelClass;
+
+    /**
+     * Whether the type directly extends one of the {@link RepresentationModel} types.
+     */
+    private final boolean representationModelSubclass;
+
+    /**
+     * The Siren classes the {@link SirenEntityClassProvider} returns by default for instances of the type.
+     */
+    private final List<String> defaultClasses;
+
+    private final String[] titleCodes;
+
+    static TypeMetadata of(Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    boolean isRepresentationModel() {
+        return representationModelClass != null;
+    }
+
+    /**
+     * Returns the codes that are used to resolve the title of a Siren entity representing an instance of the type.
+     *
+     * @return the codes, ordered from the most to the least specific one.
+     */
+    String[] getTitleCodes() {
+        return titleCodes.clone();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TypeMetadata compute(Class<?> type) {
+        Class<? extends RepresentationModel<?>> representationModelClass = null;
+        for (Class<?> resourceType : REPRESENTATION_MODEL_TYPES) {
+            if (resourceType.isAssignableFrom(type)) {
+                representationModelClass = (Class<RepresentationModel<?>>) resourceType;
+                break;
+            }
+        }
+
+        boolean representationModelSubclass =
+            !REPRESENTATION_MODEL_TYPES.contains(type) && REPRESENTATION_MODEL_TYPES.contains(type.getSuperclass());
+
+        List<String> defaultClasses = representationModelClass != null
+            ? singletonList(uncapitalize(substringBeforeLast(representationModelClass.getSimpleName(), "Model"))) : emptyList();
+
+        String[] titleCodes = Stream.of(type.getName(), type.getSimpleName(), "default")
+            .map(it -> String.format("_entity.%s.title", it)).toArray(String[]::new);
+
+        return new TypeMetadata(representationModelClass, representationModelSubclass, defaultClasses, titleCodes);
+    }
+}
@@ -20,11 +20,15 @@ import static java.util.Collections.singletonMap;
 import static de.ingogriebsch.spring.hateoas.siren.BeanUtils.applyProperties;
 import static de.ingogriebsch.spring.hateoas.siren.BeanUtils.instantiate;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Value;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanInstantiationException;
 
 class BeanUtilsTest {
 
@@ -42,6 +46,64 @@ class BeanUtilsTest {
             Pojo pojo = new Pojo("Peter");
             assertThat(instantiate(Pojo.class, new Class[] { String.class }, new Object[] { pojo.getName() })).isEqualTo(pojo);
         }
+
+        @Test
+        void should_create_object_through_constructor_declaring_primitives() {
+            Point point = new Point(1, 2);
+            assertThat(instantiate(Point.class, new Class[] { Integer.class, Integer.class }, new Object[] { 1, 2 }))
+                .isEqualTo(point);
+        }
+
+        @Test
+        void should_create_object_through_private_constructor() {
+            assertThat(instantiate(Secret.class, new Class[] {}, new Object[] {})).isNotNull();
+        }
+
+        @Test
+        void should_create_object_through_constructor_declaring_super_type() {
+            Holder holder = instantiate(Holder.class, new Class[] { String.class }, new Object[] { "Peter" });
+            assertThat(holder.getValue()).isEqualTo("Peter");
+        }
+
+        @Test
+        void should_create_object_through_most_specific_constructor() {
+            for (int i = 0; i < 2; i++) {
+                Overloaded overloaded = instantiate(Overloaded.class, new Class[] { String.class }, new Object[] { "Peter" });
+                assertThat(overloaded.getConstructor()).isEqualTo("CharSequence");
+            }
+        }
+
+        @Test
+        void should_throw_exception_if_constructors_are_ambiguous() {
+            assertThatThrownBy(
+                () -> instantiate(Ambiguous.class, new Class[] { String.class, String.class }, new Object[] { "Peter", "Paul" }))
+                    .isInstanceOf(IllegalStateException.class).hasMessageContaining("Ambiguous");
+        }
+
+        @Test
+        void should_create_new_object_on_each_call() {
+            Class<?>[] types = new Class[] { String.class };
+            assertThat(instantiate(Pojo.class, types, new Object[] { "Peter" }))
+                .isNotSameAs(instantiate(Pojo.class, types, new Object[] { "Peter" })).isEqualTo(new Pojo("Peter"));
+        }
+
+        @Test
+        void should_throw_exception_if_constructor_is_not_available() {
+            assertThatThrownBy(() -> instantiate(Pojo.class, new Class[] { Integer.class }, new Object[] { 1 }))
+                .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void should_throw_exception_if_constructor_fails() {
+            assertThatThrownBy(() -> instantiate(Pojo.class, new Class[] { String.class, String.class }, new Object[] { "", "" }))
+                .isInstanceOf(BeanInstantiationException.class).hasRootCauseInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        void should_rethrow_error_if_constructor_fails_with_error() {
+            assertThatThrownBy(() -> instantiate(Broken.class, new Class[] {}, new Object[] {}))
+                .isExactlyInstanceOf(LinkageError.class).hasMessage("Broken");
+        }
     }
 
     @Nested
@@ -59,5 +121,66 @@ class BeanUtilsTest {
     private static class Pojo {
 
         private String name;
+
+        Pojo(String first, String second) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Value
+    private static class Point {
+
+        int x;
+        int y;
+    }
+
+    private static class Secret {
+
+        private Secret() {
+        }
+    }
+
+    private static class Broken {
+
+        Broken() {
+            throw new LinkageError("Broken");
+        }
+    }
+
+    @Getter
+    private static class Holder {
+
+        private final Object value;
+
+        Holder(Object value) {
+            this.value = value;
+        }
+    }
+
+    @Getter
+    private static class Overloaded {
+
+        private final String constructor;
+
+        Overloaded(Object value) {
+            constructor = "Object";
+        }
+
+        Overloaded(CharSequence value) {
+            constructor = "CharSequence";
+        }
+
+        Overloaded(Number value) {
+            constructor = "Number";
+        }
+    }
+
+    private static class Ambiguous {
+
+        Ambiguous(Object first, String second) {
+        }
+
+        Ambiguous(String first, Object second) {
+        }
     }
 }
@@ -0,0 +1,120 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static java.util.Locale.ENGLISH;
+import static java.util.Locale.GERMAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.hateoas.mediatype.MessageResolver;
+
+class CachingMessageResolverTest {
+
+    @AfterEach
+    void afterEach() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void resolve_should_ask_the_delegate_only_once_per_codes() {
+        CountingMessageResolver delegate = new CountingMessageResolver("title");
+        CachingMessageResolver resolver = new CachingMessageResolver(delegate, 10);
+
+        assertThat(resolver.resolve(SirenAction.TitleResolvable.of("update"))).isEqualTo("title");
+        assertThat(resolver.resolve(SirenAction.TitleResolvable.of("update"))).isEqualTo("title");
+
+        assertThat(delegate.getInvocations()).isEqualTo(1);
+        assertThat(resolver.statistics()).isEqualTo(SirenTitleCacheStatistics.of(1, 1, 0, 1));
+    }
+
+    @Test
+    void resolve_should_cache_missing_messages() {
+        CountingMessageResolver delegate = new CountingMessageResolver(null);
+        CachingMessageResolver resolver = new CachingMessageResolver(delegate, 10);
+
+        assertThat(resolver.resolve(SirenAction.TitleResolvable.of("update"))).isNull();
+        assertThat(resolver.resolve(SirenAction.TitleResolvable.of("update"))).isNull();
+
+        assertThat(delegate.getInvocations()).isEqualTo(1);
+    }
+
+    @Test
+    void resolve_should_respect_the_current_locale() {
+        CountingMessageResolver delegate = new CountingMessageResolver("title");
+        CachingMessageResolver resolver = new CachingMessageResolver(delegate, 10);
+
+        LocaleContextHolder.setLocale(ENGLISH);
+        resolver.resolve(SirenAction.TitleResolvable.of("update"));
+        LocaleContextHolder.setLocale(GERMAN);
+        resolver.resolve(SirenAction.TitleResolvable.of("update"));
+
+        assertThat(delegate.getInvocations()).isEqualTo(2);
+    }
+
+    @Test
+    void resolve_should_not_cache_resolvables_having_arguments() {
+        CountingMessageResolver delegate = new CountingMessageResolver("title");
+        CachingMessageResolver resolver = new CachingMessageResolver(delegate, 10);
+
+        DefaultMessageSourceResolvable resolvable =
+            new DefaultMessageSourceResolvable(new String[] { "code" }, new Object[] { "argument" });
+        resolver.resolve(resolvable);
+        resolver.resolve(resolvable);
+
+        assertThat(delegate.getInvocations()).isEqualTo(2);
+        assertThat(resolver.statistics().getSize()).isZero();
+    }
+
+    @Test
+    void invalidate_should_remove_cached_messages() {
+        CountingMessageResolver delegate = new CountingMessageResolver("title");
+        CachingMessageResolver resolver = new CachingMessageResolver(delegate, 10);
+
+        resolver.resolve(SirenAction.TitleResolvable.of("update"));
+        resolver.invalidate();
+        resolver.resolve(SirenAction.TitleResolvable.of("update"));
+
+        assertThat(delegate.getInvocations()).isEqualTo(2);
+    }
+
+    private static class CountingMessageResolver implements MessageResolver {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final String message;
+
+        CountingMessageResolver(String message) {
+            this.message = message;
+        }
+
+        @Override
+        public String resolve(MessageSourceResolvable resolvable) {
+            invocations.incrementAndGet();
+            return message;
+        }
+
+        int getInvocations() {
+            return invocations.get();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import de.ingogriebsch.spring.hateoas.siren.support.Capital;
+import de.ingogriebsch.spring.hateoas.siren.support.Person;
+import org.junit.jupiter.api.Test;
+
+class DynamicValueSerializersTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void find_should_return_the_cached_serializer_for_a_known_type() throws Exception {
+        DynamicValueSerializers serializers = new DynamicValueSerializers(null);
+
+        SerializerProvider provider = OBJECT_MAPPER.getSerializerProviderInstance();
+        JsonSerializer<Object> first = serializers.find(Person.class, provider);
+
+        assertThat(serializers.find(Person.class, OBJECT_MAPPER.getSerializerProviderInstance())).isSameAs(first);
+    }
+
+    @Test
+    void find_should_return_a_dedicated_serializer_per_type() throws Exception {
+        DynamicValueSerializers serializers = new DynamicValueSerializers(null);
+
+        SerializerProvider provider = OBJECT_MAPPER.getSerializerProviderInstance();
+        JsonSerializer<Object> person = serializers.find(Person.class, provider);
+        JsonSerializer<Object> capital = serializers.find(Capital.class, provider);
+
+        assertThat(person.handledType()).isEqualTo(Person.class);
+        assertThat(capital.handledType()).isEqualTo(Capital.class);
+    }
+}
@@ -21,6 +21,7 @@ import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Maps.newTreeMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.hateoas.IanaLinkRelations.ABOUT;
 import static org.springframework.hateoas.IanaLinkRelations.HELP;
 import static org.springframework.hateoas.IanaLinkRelations.LICENSE;
@@ -257,6 +258,24 @@ class Jackson2SirenModuleTest {
                 CollectionModel<?> actual = read(source, CollectionModel.class);
                 assertThat(actual).isEqualTo(expected);
             }
+
+            @Test
+            void containing_unknown_members() throws Exception {
+                String source =
+                    "{\"class\":[\"collection\"],\"unknown\":{\"links\":[{\"rel\":[\"self\"],\"href\":\"/unknown\"}]},"
+                            + "\"links\":[{\"rel\":[\"self\"],\"href\":\"/persons\"}],\"title\":\"Persons\"}";
+                CollectionModel<?> expected = CollectionModel.of(newArrayList(), Link.of("/persons", SELF));
+
+                CollectionModel<?> actual = read(source, CollectionModel.class);
+                assertThat(actual).isEqualTo(expected);
+            }
+
+            @Test
+            void truncated() {
+                String source = "{\"class\":[\"collection\"],\"links\":[]";
+
+                assertThatThrownBy(() -> read(source, CollectionModel.class)).isInstanceOf(IOException.class);
+            }
         }
     }
 
@@ -527,6 +546,27 @@ class Jackson2SirenModuleTest {
                 PagedModel<?> actual = read(source, PagedModel.class);
                 assertThat(actual).isEqualTo(expected);
             }
+
+            @Test
+            void embedded_in_array() throws Exception {
+                String pagedModel = readResource("paged-model/containing_pojo.json");
+                String source = "[" + pagedModel + "," + pagedModel + "]";
+                PagedModel<Person> expected = PagedModel.of(newArrayList(new Person("Peter", 33)), new PageMetadata(20, 0, 1));
+
+                List<PagedModel<Person>> actual = read(source, new TypeReference<List<PagedModel<Person>>>() {
+                });
+                assertThat(actual).containsExactly(expected, expected);
+            }
+
+            @Test
+            void containing_unknown_members() throws Exception {
+                String source = "{\"class\":[\"paged\"],\"unknown\":{\"links\":[{\"rel\":[\"self\"],\"href\":\"/unknown\"}]},"
+                        + "\"properties\":{\"size\":20,\"totalElements\":0,\"totalPages\":0,\"number\":0},\"title\":\"Persons\"}";
+                PagedModel<?> expected = PagedModel.of(newArrayList(), new PageMetadata(20, 0, 0));
+
+                PagedModel<?> actual = read(source, PagedModel.class);
+                assertThat(actual).isEqualTo(expected);
+            }
         }
     }
 
@@ -657,6 +697,50 @@ class Jackson2SirenModuleTest {
                 RepresentationModel<?> actual = read(source, RepresentationModel.class);
                 assertThat(actual).isEqualTo(expected);
             }
+
+            @Test
+            void having_properties_unknown_to_the_model() throws Exception {
+                String source = "{\"properties\":{\"name\":\"Peter\",\"unknown\":{\"nested\":true},\"age\":33},"
+                        + "\"links\":[{\"rel\":[\"self\"],\"href\":\"/person\"}]}";
+                RepresentationModel<?> expected = new PersonModel("Peter", 33);
+                expected.add(Link.of("/person", SELF));
+
+                RepresentationModel<?> actual = read(source, PersonModel.class);
+                assertThat(actual).isEqualTo(expected);
+            }
+
+            @Test
+            void having_properties_through_custom_factory() throws Exception {
+                List<Map<String, Object>> captured = newArrayList();
+                RepresentationModelFactories factories = new RepresentationModelFactories() {
+
+                    @Override
+                    public RepresentationModelFactory forRepresentationModel() {
+                        return new RepresentationModelFactory() {
+
+                            @Override
+                            public RepresentationModel<?> create(JavaType type, Iterable<Link> links,
+                                Map<String, Object> properties) {
+                                captured.add(properties);
+                                return RepresentationModelFactory.super.create(type, links, properties);
+                            }
+                        };
+                    }
+                };
+
+                ObjectMapper mapper = SirenMediaTypeConfiguration
+                    .of(DEFAULTS_ONLY, new SirenConfiguration(), SirenEntityClassProvider.DEFAULT_INSTANCE,
+                        SirenEntityRelProvider.DEFAULT_INSTANCE, new TypeBasedSirenActionFieldTypeConverter(), factories)
+                    .configureObjectMapper(new ObjectMapper());
+
+                String source = readResource("representation-model/having_properties_containing_link.json");
+                RepresentationModel<?> expected = new PersonModel("Peter", 33);
+                expected.add(Link.of("/person", SELF));
+
+                RepresentationModel<?> actual = mapper.readValue(source, PersonModel.class);
+                assertThat(actual).isEqualTo(expected);
+                assertThat(captured).containsExactly(Map.of("name", "Peter", "age", 33));
+            }
         }
     }
 
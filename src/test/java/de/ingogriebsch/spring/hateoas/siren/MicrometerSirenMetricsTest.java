@@ -0,0 +1,168 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_JSON;
+import static de.ingogriebsch.spring.hateoas.siren.MicrometerSirenMetrics.ACTIONS;
+import static de.ingogriebsch.spring.hateoas.siren.MicrometerSirenMetrics.DEPTH;
+import static de.ingogriebsch.spring.hateoas.siren.MicrometerSirenMetrics.DESERIALIZATION;
+import static de.ingogriebsch.spring.hateoas.siren.MicrometerSirenMetrics.ENTITIES;
+import static de.ingogriebsch.spring.hateoas.siren.MicrometerSirenMetrics.LINKS;
+import static de.ingogriebsch.spring.hateoas.siren.MicrometerSirenMetrics.MODEL_TAG;
+import static de.ingogriebsch.spring.hateoas.siren.MicrometerSirenMetrics.SERIALIZATION;
+import static de.ingogriebsch.spring.hateoas.siren.MicrometerSirenMetrics.SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.hateoas.mediatype.MessageResolver.DEFAULTS_ONLY;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.ingogriebsch.spring.hateoas.siren.support.Person;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class MicrometerSirenMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private SirenMetrics metrics;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void beforeEach() {
+        registry = new SimpleMeterRegistry();
+        metrics = new MicrometerSirenMetrics(registry);
+        objectMapper = objectMapper(metrics);
+    }
+
+    @Test
+    void serialization_should_record_the_document_once() throws Exception {
+        CollectionModel<EntityModel<Person>> model = CollectionModel.of(newArrayList( //
+            EntityModel.of(new Person("Peter", 33), Link.of("/persons/1")), //
+            EntityModel.of(new Person("Paul", 44), Link.of("/persons/2")) //
+        ), Link.of("/persons"));
+
+        byte[] json = objectMapper.writeValueAsBytes(model);
+
+        assertThat(registry.get(SERIALIZATION).tag(MODEL_TAG, "CollectionModel").timer().count()).isEqualTo(1);
+        assertThat(registry.find(SERIALIZATION).tag(MODEL_TAG, "EntityModel").timer()).isNull();
+        assertThat(summary(ENTITIES, "CollectionModel").totalAmount()).isEqualTo(2);
+        assertThat(summary(LINKS, "CollectionModel").totalAmount()).isEqualTo(3);
+        assertThat(summary(ACTIONS, "CollectionModel").totalAmount()).isZero();
+        assertThat(summary(DEPTH, "CollectionModel").totalAmount()).isEqualTo(2);
+        assertThat(summary(SIZE, "CollectionModel").totalAmount()).isEqualTo(json.length);
+    }
+
+    @Test
+    void serialization_should_not_record_the_size_of_a_document_written_to_a_writer() throws Exception {
+        objectMapper.writeValueAsString(EntityModel.of(new Person("Peter", 33), Link.of("/persons/1")));
+
+        assertThat(registry.get(SERIALIZATION).tag(MODEL_TAG, "EntityModel").timer().count()).isEqualTo(1);
+        assertThat(registry.find(SIZE).tag(MODEL_TAG, "EntityModel").summary().count()).isZero();
+    }
+
+    @Test
+    void serialization_should_record_the_written_bytes_of_a_stream() throws Exception {
+        EntityModel<Person> model = EntityModel.of(new Person("Peter", 33), Link.of("/persons/1"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write("prefix".getBytes(UTF_8));
+        objectMapper.writeValue(out, model);
+
+        assertThat(summary(SIZE, "EntityModel").totalAmount()).isEqualTo(out.size() - "prefix".length());
+    }
+
+    @Test
+    void serialization_should_record_a_streamed_collection_as_one_document() {
+        Flux<EntityModel<Person>> content = Flux.just( //
+            EntityModel.of(new Person("Peter", 33), Link.of("/persons/1")), //
+            EntityModel.of(new Person("Paul", 44), Link.of("/persons/2")) //
+        );
+        SirenReactiveCollectionModel<?> model = SirenReactiveCollectionModel.of(content, Link.of("/persons"));
+
+        String json = new SirenReactiveCollectionModelEncoder(objectMapper, metrics)
+            .encode(Mono.just(model), DefaultDataBufferFactory.sharedInstance,
+                ResolvableType.forClass(SirenReactiveCollectionModel.class), SIREN_JSON, null)
+            .map(buffer -> buffer.toString(UTF_8)).collect(joining()).block();
+
+        assertThat(registry.get(SERIALIZATION).tag(MODEL_TAG, "CollectionModel").timer().count()).isEqualTo(1);
+        assertThat(registry.find(SERIALIZATION).tag(MODEL_TAG, "EntityModel").timer()).isNull();
+        assertThat(summary(ENTITIES, "CollectionModel").totalAmount()).isEqualTo(2);
+        assertThat(summary(LINKS, "CollectionModel").totalAmount()).isEqualTo(3);
+        assertThat(summary(DEPTH, "CollectionModel").totalAmount()).isEqualTo(2);
+        assertThat(summary(SIZE, "CollectionModel").totalAmount()).isEqualTo(json.getBytes(UTF_8).length);
+    }
+
+    @Test
+    void deserialization_should_record_the_document_once() throws Exception {
+        CollectionModel<EntityModel<Person>> model = CollectionModel.of(newArrayList( //
+            EntityModel.of(new Person("Peter", 33), Link.of("/persons/1")), //
+            EntityModel.of(new Person("Paul", 44), Link.of("/persons/2")) //
+        ));
+        String json = objectMapper.writeValueAsString(model);
+
+        objectMapper.readValue(json, new TypeReference<CollectionModel<EntityModel<Person>>>() {
+        });
+
+        assertThat(registry.get(DESERIALIZATION).tag(MODEL_TAG, "CollectionModel").timer().count()).isEqualTo(1);
+        assertThat(registry.find(DESERIALIZATION).tag(MODEL_TAG, "EntityModel").timer()).isNull();
+    }
+
+    @Test
+    void deserialization_should_record_failed_documents() {
+        String json = "{\"class\":[\"entity\"],\"properties\":{\"name\":\"Peter\",\"age\":\"unknown\"}}";
+
+        assertThatThrownBy(() -> objectMapper.readValue(json, new TypeReference<EntityModel<Person>>() {
+        })).isInstanceOf(IOException.class);
+
+        assertThat(registry.get(DESERIALIZATION).tag(MODEL_TAG, "EntityModel").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void disabled_metrics_should_record_nothing() throws Exception {
+        ObjectMapper objectMapper = objectMapper(SirenMetrics.NONE);
+
+        objectMapper.writeValueAsString(EntityModel.of(new Person("Peter", 33)));
+
+        assertThat(objectMapper.getFactory().getOutputDecorator()).isNull();
+        assertThat(registry.getMeters()).isEmpty();
+    }
+
+    private DistributionSummary summary(String name, String kind) {
+        return registry.get(name).tag(MODEL_TAG, kind).summary();
+    }
+
+    private static ObjectMapper objectMapper(SirenMetrics metrics) {
+        return SirenMediaTypeConfiguration.of(DEFAULTS_ONLY, new SirenConfiguration(), SirenEntityClassProvider.DEFAULT_INSTANCE,
+            SirenEntityRelProvider.DEFAULT_INSTANCE, new TypeBasedSirenActionFieldTypeConverter(),
+            RepresentationModelFactories.DEFAULT_INSTANCE, metrics).configureObjectMapper(new ObjectMapper());
+    }
+}
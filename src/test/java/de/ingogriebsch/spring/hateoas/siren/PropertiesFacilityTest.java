@@ -15,11 +15,14 @@
  */
 package de.ingogriebsch.spring.hateoas.siren;
 
+import static java.util.Collections.singletonMap;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
 import java.util.Map;
 
+import com.fasterxml.jackson.databind.JsonSerializable;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Data;
 import org.junit.jupiter.api.Test;
@@ -49,6 +52,32 @@ class PropertiesFacilityTest {
         );
     }
 
+    @Test
+    void writable_should_stream_the_same_properties_that_are_extracted() throws Exception {
+        Pojo pojo = new Pojo();
+        pojo.setStringValue("test");
+        pojo.setIntegerValue(1);
+
+        PropertiesFacility facility = new PropertiesFacility(objectMapper());
+        Object properties = facility.writable(pojo, "longValue");
+
+        assertThat(properties).isInstanceOf(JsonSerializable.class);
+        assertThat(objectMapper().writeValueAsString(properties))
+            .isEqualTo(objectMapper().writeValueAsString(facility.extract(pojo, "longValue")));
+    }
+
+    @Test
+    void writable_should_return_null_if_all_properties_are_excluded() {
+        PropertiesFacility facility = new PropertiesFacility(objectMapper());
+        assertThat(facility.writable(new Content(), "content")).isNull();
+    }
+
+    @Test
+    void writable_should_fall_back_to_extracted_properties_if_object_is_no_plain_bean() {
+        PropertiesFacility facility = new PropertiesFacility(objectMapper());
+        assertThat(facility.writable(singletonMap("key", "value"))).isEqualTo(singletonMap("key", "value"));
+    }
+
     private static ObjectMapper objectMapper() {
         return new ObjectMapper();
     }
@@ -63,4 +92,10 @@ class PropertiesFacilityTest {
         private Float floatValue;
         private Boolean booleanValue;
     }
+
+    @Data
+    private static class Content {
+
+        private String content;
+    }
 }
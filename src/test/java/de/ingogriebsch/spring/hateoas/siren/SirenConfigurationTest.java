@@ -2,6 +2,7 @@ package de.ingogriebsch.spring.hateoas.siren;
 
 import static de.ingogriebsch.spring.hateoas.siren.TypeMapping.typeMapping;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.hateoas.mediatype.html.HtmlInputType.NUMBER;
 import static org.springframework.hateoas.mediatype.html.HtmlInputType.TEXT;
 
@@ -22,6 +23,49 @@ class SirenConfigurationTest {
         assertThat(new SirenConfiguration().getActionFieldTypeMappings()).isEmpty();
     }
 
+    @Test
+    void ctor_should_define_default_for_titleCacheMaximumSize() {
+        assertThat(new SirenConfiguration().getTitleCacheMaximumSize()).isEqualTo(1000);
+    }
+
+    @Test
+    void withTitleCacheMaximumSize_should_return_set_value() {
+        SirenConfiguration configuration = new SirenConfiguration().withTitleCacheMaximumSize(0);
+        assertThat(configuration.getTitleCacheMaximumSize()).isZero();
+    }
+
+    @Test
+    void withTitleCacheMaximumSize_should_throw_exception_if_value_is_negative() {
+        SirenConfiguration configuration = new SirenConfiguration();
+        assertThatThrownBy(() -> configuration.withTitleCacheMaximumSize(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void serverTimingMaximumBodySize_should_be_disabled_by_default() {
+        assertThat(new SirenConfiguration().getServerTimingMaximumBodySize()).isZero();
+    }
+
+    @Test
+    void withServerTimingMaximumBodySize_should_return_set_value() {
+        SirenConfiguration configuration = new SirenConfiguration().withServerTimingMaximumBodySize(1024);
+        assertThat(configuration.getServerTimingMaximumBodySize()).isEqualTo(1024);
+    }
+
+    @Test
+    void withServerTimingMaximumBodySize_should_throw_exception_if_value_is_negative() {
+        SirenConfiguration configuration = new SirenConfiguration();
+        assertThatThrownBy(() -> configuration.withServerTimingMaximumBodySize(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void withProjectionEnabled_should_return_set_value() {
+        SirenConfiguration configuration = new SirenConfiguration();
+        assertThat(configuration.isProjectionEnabled()).isFalse();
+
+        configuration.withProjectionEnabled(true);
+        assertThat(configuration.isProjectionEnabled()).isTrue();
+    }
+
     @Test
     void withEntityAndCollectionModelSubclassingEnabled_should_return_set_value() {
         SirenConfiguration configuration = new SirenConfiguration();
@@ -0,0 +1,183 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_JSON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.IanaLinkRelations.SELF;
+import static org.springframework.hateoas.mediatype.MessageResolver.DEFAULTS_ONLY;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.ingogriebsch.spring.hateoas.siren.support.Person;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.TestPublisher;
+
+class SirenDecodedCollectionModelDecoderTest {
+
+    private static final ResolvableType ELEMENT_TYPE = ResolvableType.forClassWithGenerics(SirenDecodedCollectionModel.class,
+        ResolvableType.forClassWithGenerics(EntityModel.class, Person.class));
+
+    private static ObjectMapper objectMapper;
+    private static SirenDecodedCollectionModelDecoder decoder;
+
+    @BeforeAll
+    static void beforeAll() {
+        SirenMediaTypeConfiguration sirenMediaTypeConfiguration = SirenMediaTypeConfiguration.of(DEFAULTS_ONLY,
+            new SirenConfiguration(), SirenEntityClassProvider.DEFAULT_INSTANCE, SirenEntityRelProvider.DEFAULT_INSTANCE,
+            new TypeBasedSirenActionFieldTypeConverter(), RepresentationModelFactories.DEFAULT_INSTANCE);
+
+        objectMapper = sirenMediaTypeConfiguration.configureObjectMapper(new ObjectMapper());
+        decoder = new SirenDecodedCollectionModelDecoder(objectMapper,
+            new SirenLinkConverter(DEFAULTS_ONLY, new TypeBasedSirenActionFieldTypeConverter()));
+    }
+
+    @Test
+    void canDecode_should_return_true_if_type_and_mime_type_match() {
+        assertThat(decoder.canDecode(ELEMENT_TYPE, SIREN_JSON)).isTrue();
+        assertThat(decoder.canDecode(ELEMENT_TYPE, null)).isTrue();
+    }
+
+    @Test
+    void canDecode_should_return_false_if_type_or_mime_type_do_not_match() {
+        assertThat(decoder.canDecode(ResolvableType.forClass(CollectionModel.class), SIREN_JSON)).isFalse();
+        assertThat(decoder.canDecode(ELEMENT_TYPE, APPLICATION_JSON)).isFalse();
+    }
+
+    @Test
+    void decode_should_emit_the_content_and_links_of_a_collection() throws Exception {
+        List<EntityModel<Person>> content = persons(3);
+        Link self = Link.of("/persons", SELF);
+        byte[] source = objectMapper.writeValueAsBytes(CollectionModel.of(content, self));
+
+        SirenDecodedCollectionModel<Object> model = decode(chunks(source, 7));
+
+        StepVerifier.create(model.getContent()).expectNextSequence(content).verifyComplete();
+        StepVerifier.create(model.getLinks()).expectNext(Links.of(self)).verifyComplete();
+        StepVerifier.create(model.getProperties()).verifyComplete();
+    }
+
+    @Test
+    void decode_should_emit_an_entity_as_soon_as_it_is_complete() throws Exception {
+        List<EntityModel<Person>> content = persons(2);
+        String source = objectMapper.writeValueAsString(CollectionModel.of(content));
+        int split = source.indexOf("},{") + 1;
+
+        TestPublisher<DataBuffer> publisher = TestPublisher.create();
+        SirenDecodedCollectionModel<Object> model = decode(publisher.flux());
+
+        StepVerifier.create(model.getContent()) //
+            .then(() -> publisher.next(buffer(source.substring(0, split).getBytes(UTF_8)))) //
+            .expectNext(content.get(0)) //
+            .then(() -> publisher.next(buffer(source.substring(split).getBytes(UTF_8))).complete()) //
+            .expectNext(content.get(1)) //
+            .verifyComplete();
+    }
+
+    @Test
+    void decode_should_emit_the_properties_of_a_collection() {
+        String source = "{\"class\":[\"collection\"],\"properties\":{\"total\":2,\"tags\":[\"a\"]},\"entities\":[],"
+                + "\"links\":[{\"rel\":[\"self\"],\"href\":\"/persons\"}],\"title\":\"Persons\"}";
+
+        SirenDecodedCollectionModel<Object> model = decode(chunks(source.getBytes(UTF_8), 5));
+
+        StepVerifier.create(model.getContent()).verifyComplete();
+        StepVerifier.create(model.getProperties()) //
+            .assertNext(properties -> assertThat(properties).containsEntry("total", 2).containsEntry("tags", newArrayList("a"))) //
+            .verifyComplete();
+        StepVerifier.create(model.getLinks()).expectNext(Links.of(Link.of("/persons", SELF))).verifyComplete();
+    }
+
+    @Test
+    void decode_should_emit_the_links_only_once_the_content_is_consumed() throws Exception {
+        List<EntityModel<Person>> content = persons(2);
+        Link self = Link.of("/persons", SELF);
+        byte[] source = objectMapper.writeValueAsBytes(CollectionModel.of(content, self));
+
+        SirenDecodedCollectionModel<Object> model = decode(chunks(source, 16));
+
+        StepVerifier.create(model.getLinks()).expectSubscription().expectNoEvent(Duration.ofMillis(100)).thenCancel().verify();
+        StepVerifier.create(model.getLinks()) //
+            .then(() -> model.getContent().subscribe()) //
+            .expectNext(Links.of(self)) //
+            .verifyComplete();
+    }
+
+    @Test
+    void decode_should_complete_the_links_empty_if_the_content_is_cancelled() throws Exception {
+        byte[] source = objectMapper.writeValueAsBytes(CollectionModel.of(persons(3), Link.of("/persons", SELF)));
+
+        SirenDecodedCollectionModel<Object> model = decode(chunks(source, 16));
+
+        StepVerifier.create(model.getContent(), 1).expectNextCount(1).thenCancel().verify();
+        StepVerifier.create(model.getLinks()).verifyComplete();
+        StepVerifier.create(model.getProperties()).verifyComplete();
+    }
+
+    @Test
+    void decode_should_fail_if_the_collection_is_incomplete() throws Exception {
+        byte[] source = objectMapper.writeValueAsBytes(CollectionModel.of(persons(2)));
+        byte[] truncated = new byte[source.length - 1];
+        System.arraycopy(source, 0, truncated, 0, truncated.length);
+
+        SirenDecodedCollectionModel<Object> model = decode(chunks(truncated, 16));
+
+        StepVerifier.create(model.getContent()).expectNextCount(2).verifyError(DecodingException.class);
+        StepVerifier.create(model.getLinks()).verifyError(DecodingException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SirenDecodedCollectionModel<Object> decode(Flux<DataBuffer> input) {
+        return (SirenDecodedCollectionModel<Object>) decoder.decodeToMono(input, ELEMENT_TYPE, SIREN_JSON, null).block();
+    }
+
+    private static Flux<DataBuffer> chunks(byte[] source, int size) {
+        return Flux.range(0, (source.length + size - 1) / size).map(i -> {
+            int offset = i * size;
+            byte[] chunk = new byte[Math.min(size, source.length - offset)];
+            System.arraycopy(source, offset, chunk, 0, chunk.length);
+            return buffer(chunk);
+        });
+    }
+
+    private static DataBuffer buffer(byte[] bytes) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(bytes);
+    }
+
+    private static List<EntityModel<Person>> persons(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> EntityModel.of(new Person("Person " + i, i), Link.of("/persons/" + i, SELF))).collect(toList());
+    }
+}
@@ -0,0 +1,81 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static de.ingogriebsch.spring.hateoas.siren.SirenEntityWriter.entityWriter;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.IanaLinkRelations.ITEM;
+import static org.springframework.http.HttpMethod.PUT;
+
+import java.io.StringWriter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.ingogriebsch.spring.hateoas.siren.support.Person;
+import org.junit.jupiter.api.Test;
+
+class SirenEntityWriterTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void should_omit_members_that_are_null_or_empty() throws Exception {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator gen = OBJECT_MAPPER.createGenerator(writer)) {
+            entityWriter(gen, OBJECT_MAPPER.getSerializerProviderInstance(), new DynamicValueSerializers(null)) //
+                .start(this) //
+                .classes(newArrayList()) //
+                .rels(null) //
+                .properties(null) //
+                .entities(newArrayList()) //
+                .links(newArrayList()) //
+                .actions(null) //
+                .title(null) //
+                .end();
+        }
+
+        assertThat(writer.toString()).isEqualTo("{}");
+    }
+
+    @Test
+    void should_write_members_in_siren_order() throws Exception {
+        SirenLink link = SirenLink.builder().rel("self").href("/persons/1").title("Peter").build();
+        SirenAction.Field field = SirenAction.Field.builder().name("age").type("number").value(33).build();
+        SirenAction action =
+            SirenAction.builder().name("update").method(PUT).href("/persons/1").type("application/json").field(field).build();
+
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator gen = OBJECT_MAPPER.createGenerator(writer)) {
+            entityWriter(gen, OBJECT_MAPPER.getSerializerProviderInstance(), new DynamicValueSerializers(null)) //
+                .start(this) //
+                .classes(newArrayList("entity")) //
+                .rels(newArrayList(ITEM)) //
+                .properties(new Person("Peter", 33)) //
+                .entities(newArrayList(new Person("Paul", 44))) //
+                .links(newArrayList(link)) //
+                .actions(newArrayList(action)) //
+                .title("person") //
+                .end();
+        }
+
+        assertThat(writer.toString()).isEqualTo("{\"class\":[\"entity\"],\"rel\":[\"item\"]," //
+                + "\"properties\":{\"name\":\"Peter\",\"age\":33},\"entities\":[{\"name\":\"Paul\",\"age\":44}]," //
+                + "\"links\":[{\"rel\":[\"self\"],\"href\":\"/persons/1\",\"title\":\"Peter\"}]," //
+                + "\"actions\":[{\"name\":\"update\",\"method\":\"PUT\",\"href\":\"/persons/1\",\"type\":\"application/json\"," //
+                + "\"fields\":[{\"name\":\"age\",\"type\":\"number\",\"value\":33}]}],\"title\":\"person\"}");
+    }
+}
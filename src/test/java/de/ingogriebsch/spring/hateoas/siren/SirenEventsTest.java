@@ -0,0 +1,204 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_JSON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.mediatype.MessageResolver.DEFAULTS_ONLY;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.ingogriebsch.spring.hateoas.siren.support.Person;
+import de.ingogriebsch.spring.hateoas.siren.support.PersonModel;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class SirenEventsTest {
+
+    private static final String SERIALIZATION = "de.ingogriebsch.spring.hateoas.siren.Serialization";
+    private static final String DESERIALIZATION = "de.ingogriebsch.spring.hateoas.siren.Deserialization";
+    private static final String LINK_CONVERSION = "de.ingogriebsch.spring.hateoas.siren.LinkConversion";
+    private static final String PROPERTIES_EXTRACTION = "de.ingogriebsch.spring.hateoas.siren.PropertiesExtraction";
+    private static final String TITLE_RESOLUTION = "de.ingogriebsch.spring.hateoas.siren.TitleResolution";
+
+    @TempDir
+    Path directory;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void beforeEach() {
+        objectMapper =
+            SirenMediaTypeConfiguration.of(DEFAULTS_ONLY, new SirenConfiguration(), SirenEntityClassProvider.DEFAULT_INSTANCE,
+                SirenEntityRelProvider.DEFAULT_INSTANCE, new TypeBasedSirenActionFieldTypeConverter(),
+                RepresentationModelFactories.DEFAULT_INSTANCE).configureObjectMapper(new ObjectMapper());
+    }
+
+    @Test
+    void events_should_be_disabled_by_default() {
+        assertThat(new SirenEvents.Serialization().isEnabled()).isFalse();
+        assertThat(new SirenEvents.Deserialization().isEnabled()).isFalse();
+        assertThat(new SirenEvents.LinkConversion().isEnabled()).isFalse();
+        assertThat(new SirenEvents.PropertiesExtraction().isEnabled()).isFalse();
+        assertThat(new SirenEvents.TitleResolution().isEnabled()).isFalse();
+    }
+
+    @Test
+    void serialization_should_emit_events_if_enabled() throws Exception {
+        CollectionModel<EntityModel<Person>> model = CollectionModel.of(newArrayList( //
+            EntityModel.of(new Person("Peter", 33), Link.of("/persons/1")), //
+            EntityModel.of(new Person("Paul", 44), Link.of("/persons/2")) //
+        ), Link.of("/persons"));
+
+        List<RecordedEvent> events = record(() -> objectMapper.writeValueAsString(model), SirenEvents.Serialization.class,
+            SirenEvents.LinkConversion.class, SirenEvents.TitleResolution.class);
+
+        List<RecordedEvent> serializations = events(events, SERIALIZATION);
+        assertThat(serializations).hasSize(1);
+        RecordedEvent serialization = serializations.get(0);
+        assertThat(serialization.getString("modelKind")).isEqualTo("CollectionModel");
+        assertThat(serialization.getClass("modelType").getName()).isEqualTo(CollectionModel.class.getName());
+        assertThat(serialization.getInt("entities")).isEqualTo(2);
+        assertThat(serialization.getInt("links")).isEqualTo(3);
+        assertThat(serialization.getInt("actions")).isZero();
+        assertThat(serialization.getInt("depth")).isEqualTo(2);
+
+        assertThat(events(events, LINK_CONVERSION)).hasSize(3);
+        assertThat(events(events, TITLE_RESOLUTION)).isNotEmpty();
+        assertThat(events(events, PROPERTIES_EXTRACTION)).isEmpty();
+    }
+
+    @Test
+    void serialization_should_emit_one_event_for_a_streamed_collection_if_enabled() throws Exception {
+        SirenReactiveCollectionModel<?> model = SirenReactiveCollectionModel.of(Flux.just( //
+            EntityModel.of(new Person("Peter", 33), Link.of("/persons/1")), //
+            EntityModel.of(new Person("Paul", 44), Link.of("/persons/2")) //
+        ), Link.of("/persons"));
+        SirenReactiveCollectionModelEncoder encoder = new SirenReactiveCollectionModelEncoder(objectMapper, SirenMetrics.NONE);
+
+        List<RecordedEvent> events = record(
+            () -> encoder.encode(Mono.just(model), DefaultDataBufferFactory.sharedInstance,
+                ResolvableType.forClass(SirenReactiveCollectionModel.class), SIREN_JSON, null).blockLast(),
+            SirenEvents.Serialization.class);
+
+        List<RecordedEvent> serializations = events(events, SERIALIZATION);
+        assertThat(serializations).hasSize(1);
+        assertThat(serializations.get(0).getString("modelKind")).isEqualTo("CollectionModel");
+        assertThat(serializations.get(0).getInt("entities")).isEqualTo(2);
+        assertThat(serializations.get(0).getInt("links")).isEqualTo(3);
+    }
+
+    @Test
+    void deserialization_should_emit_an_event_per_document_if_enabled() throws Exception {
+        CollectionModel<EntityModel<Person>> model = CollectionModel.of(newArrayList( //
+            EntityModel.of(new Person("Peter", 33), Link.of("/persons/1")), //
+            EntityModel.of(new Person("Paul", 44), Link.of("/persons/2")) //
+        ), Link.of("/persons"));
+        String json = objectMapper.writeValueAsString(model);
+
+        List<RecordedEvent> events =
+            record(() -> objectMapper.readValue(json, new TypeReference<CollectionModel<EntityModel<Person>>>() {
+            }), SirenEvents.Deserialization.class);
+
+        List<RecordedEvent> deserializations = events(events, DESERIALIZATION);
+        assertThat(deserializations).hasSize(1);
+        assertThat(deserializations.get(0).getString("modelKind")).isEqualTo("CollectionModel");
+        assertThat(deserializations.get(0).getInt("entities")).isEqualTo(2);
+        assertThat(deserializations.get(0).getInt("links")).isEqualTo(1);
+    }
+
+    @Test
+    void properties_extraction_should_emit_an_event_per_entity_if_enabled() throws Exception {
+        EntityModel<Person> model = EntityModel.of(new Person("Peter", 33), Link.of("/persons/1"));
+
+        List<RecordedEvent> events = record(() -> objectMapper.writeValueAsString(model), SirenEvents.PropertiesExtraction.class);
+
+        List<RecordedEvent> extractions = events(events, PROPERTIES_EXTRACTION);
+        assertThat(extractions).hasSize(1);
+        assertThat(extractions.get(0).getClass("type").getName()).isEqualTo(Person.class.getName());
+    }
+
+    @Test
+    void properties_extraction_should_emit_an_event_for_streamed_properties_if_enabled() throws Exception {
+        PersonModel model = new PersonModel("Peter", 33);
+
+        List<RecordedEvent> events = record(() -> objectMapper.writeValueAsString(model), SirenEvents.PropertiesExtraction.class);
+
+        List<RecordedEvent> extractions = events(events, PROPERTIES_EXTRACTION);
+        assertThat(extractions).hasSize(1);
+        assertThat(extractions.get(0).getClass("type").getName()).isEqualTo(PersonModel.class.getName());
+        assertThat(extractions.get(0).getInt("properties")).isEqualTo(2);
+    }
+
+    @Test
+    void properties_extraction_into_a_map_should_emit_an_event_if_enabled() throws Exception {
+        PropertiesFacility propertiesFacility = new PropertiesFacility(new ObjectMapper());
+
+        List<RecordedEvent> events =
+            record(() -> propertiesFacility.extract(new Person("Peter", 33)), SirenEvents.PropertiesExtraction.class);
+
+        List<RecordedEvent> extractions = events(events, PROPERTIES_EXTRACTION);
+        assertThat(extractions).hasSize(1);
+        assertThat(extractions.get(0).getClass("type").getName()).isEqualTo(Person.class.getName());
+        assertThat(extractions.get(0).getInt("properties")).isEqualTo(2);
+    }
+
+    @SafeVarargs
+    private final List<RecordedEvent> record(Action action, Class<? extends Event>... eventTypes) throws Exception {
+        Path file = directory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            for (Class<? extends Event> eventType : eventTypes) {
+                recording.enable(eventType);
+            }
+            recording.start();
+            action.execute();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        return events;
+    }
+
+    private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).collect(Collectors.toList());
+    }
+
+    @FunctionalInterface
+    private interface Action {
+
+        void execute() throws Exception;
+    }
+}
@@ -0,0 +1,190 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.beans.factory.config.ConfigurableBeanFactory.SCOPE_PROTOTYPE;
+import static org.springframework.hateoas.mediatype.MessageResolver.DEFAULTS_ONLY;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import lombok.Value;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Scope;
+
+class SirenHandlerInstantiatorTest {
+
+    private static final int THREADS = 8;
+    private static final int MAPPERS_PER_THREAD = 50;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void beforeEach() {
+        SharedSerializer.INSTANCES.set(0);
+        PrototypeSerializer.INSTANCES.set(0);
+        ResolvableValueSerializer.INSTANCES.set(0);
+
+        objectMapper =
+            SirenMediaTypeConfiguration.of(DEFAULTS_ONLY, new SirenConfiguration(), SirenEntityClassProvider.DEFAULT_INSTANCE,
+                SirenEntityRelProvider.DEFAULT_INSTANCE, new TypeBasedSirenActionFieldTypeConverter(),
+                RepresentationModelFactories.DEFAULT_INSTANCE).configureObjectMapper(new ObjectMapper());
+    }
+
+    @Test
+    void should_create_handler_once_under_concurrent_serialization() throws Exception {
+        List<String> results = serializeConcurrently(new SharedValue("Peter"));
+
+        assertThat(results).hasSize(THREADS * MAPPERS_PER_THREAD).containsOnly("{\"name\":\"shared:Peter\"}");
+        assertThat(SharedSerializer.INSTANCES).hasValue(1);
+    }
+
+    @Test
+    void should_create_prototype_handler_per_lookup() throws Exception {
+        List<String> results = serializeConcurrently(new PrototypeValue("Peter"));
+
+        assertThat(results).hasSize(THREADS * MAPPERS_PER_THREAD).containsOnly("{\"name\":\"prototype:Peter\"}");
+        assertThat(PrototypeSerializer.INSTANCES).hasValue(THREADS * MAPPERS_PER_THREAD);
+    }
+
+    @Test
+    void should_create_resolvable_handler_per_property() throws Exception {
+        assertThat(objectMapper.writeValueAsString(new ResolvableValue("Peter", 42)))
+            .isEqualTo("{\"name\":\"resolved:Peter\",\"age\":\"resolved:42\"}");
+        assertThat(ResolvableValueSerializer.INSTANCES).hasValue(2);
+    }
+
+    /**
+     * Serializes the given value through fresh copies of the mapper, so that each copy has to look up the handler again.
+     */
+    private List<String> serializeConcurrently(Object value) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<List<String>>> tasks = newArrayList();
+            for (int i = 0; i < THREADS; i++) {
+                tasks.add(() -> {
+                    List<String> results = newArrayList();
+                    for (int j = 0; j < MAPPERS_PER_THREAD; j++) {
+                        results.add(objectMapper.copy().writeValueAsString(value));
+                    }
+                    return results;
+                });
+            }
+
+            List<String> results = newArrayList();
+            for (Future<List<String>> future : executor.invokeAll(tasks)) {
+                results.addAll(future.get(30, SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Value
+    static class SharedValue {
+
+        @JsonSerialize(using = SharedSerializer.class)
+        String name;
+    }
+
+    @Value
+    static class PrototypeValue {
+
+        @JsonSerialize(using = PrototypeSerializer.class)
+        String name;
+    }
+
+    @Value
+    static class ResolvableValue {
+
+        @JsonSerialize(using = ResolvableValueSerializer.class)
+        String name;
+
+        @JsonSerialize(using = ResolvableValueSerializer.class)
+        Integer age;
+    }
+
+    static class SharedSerializer extends JsonSerializer<String> {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        SharedSerializer() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public void serialize(String value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeString("shared:" + value);
+        }
+    }
+
+    @Scope(SCOPE_PROTOTYPE)
+    static class PrototypeSerializer extends JsonSerializer<String> {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        PrototypeSerializer() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public void serialize(String value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeString("prototype:" + value);
+        }
+    }
+
+    /**
+     * Serializer that is resolved by Jackson for the property it is used on.
+     */
+    static class ResolvableValueSerializer extends JsonSerializer<Object> implements ResolvableSerializer {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        private JsonSerializer<Object> delegate;
+
+        ResolvableValueSerializer() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            delegate = provider.findValueSerializer(String.class);
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            delegate.serialize("resolved:" + value, gen, serializers);
+        }
+    }
+}
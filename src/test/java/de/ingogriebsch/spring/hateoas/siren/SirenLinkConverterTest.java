@@ -17,6 +17,7 @@ package de.ingogriebsch.spring.hateoas.siren;
 
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 import static com.google.common.collect.Lists.newArrayList;
+import static de.ingogriebsch.spring.hateoas.siren.TypeMapping.typeMapping;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.hateoas.IanaLinkRelations.SELF;
 import static org.springframework.hateoas.mediatype.MessageResolver.DEFAULTS_ONLY;
@@ -27,6 +28,8 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.ingogriebsch.spring.hateoas.siren.support.ResourceReader;
@@ -36,7 +39,10 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.hateoas.AffordanceModel.PropertyMetadata;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.mediatype.html.HtmlInputType;
+import org.springframework.http.MediaType;
 
 class SirenLinkConverterTest {
 
@@ -113,6 +119,94 @@ class SirenLinkConverterTest {
 
             assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
         }
+
+        @Test
+        void containing_actions_converted_once_per_affordance_but_bound_to_each_href() {
+            WebMvcPersonController controller = methodOn(WebMvcPersonController.class);
+            Link first = linkTo(controller.findOne(1)).withSelfRel().andAffordance(afford(controller.update(1, null)));
+            Link second = linkTo(controller.findOne(2)).withSelfRel().andAffordance(afford(controller.update(2, null)));
+
+            AtomicInteger executions = new AtomicInteger();
+            SirenLinkConverter converter = new SirenLinkConverter(DEFAULTS_ONLY, new SirenActionFieldTypeConverter() {
+
+                @Override
+                public Optional<HtmlInputType> execute(PropertyMetadata propertyMetadata, MediaType actionType) {
+                    executions.incrementAndGet();
+                    return SirenActionFieldTypeConverter.super.execute(propertyMetadata, actionType);
+                }
+            });
+
+            SirenAction firstAction = converter.to(newArrayList(first)).getActions().get(0);
+            int executionsAfterFirstConversion = executions.get();
+            SirenAction secondAction = converter.to(newArrayList(second)).getActions().get(0);
+
+            assertThat(executionsAfterFirstConversion).isPositive();
+            assertThat(executions.get()).isEqualTo(executionsAfterFirstConversion);
+            assertThat(firstAction.getHref()).isEqualTo("/persons/1");
+            assertThat(secondAction.getHref()).isEqualTo("/persons/2");
+            assertThat(secondAction).usingRecursiveComparison().ignoringFields("href").isEqualTo(firstAction);
+        }
+
+        @Test
+        void containing_actions_reflecting_field_type_mappings_added_after_a_conversion() {
+            WebMvcPersonController controller = methodOn(WebMvcPersonController.class);
+            Link source = linkTo(controller.findOne(1)).withSelfRel().andAffordance(afford(controller.update(1, null)));
+
+            List<TypeMapping> mappings = newArrayList();
+            SirenLinkConverter converter =
+                new SirenLinkConverter(DEFAULTS_ONLY, new TypeBasedSirenActionFieldTypeConverter(mappings));
+
+            SirenAction before = converter.to(newArrayList(source)).getActions().get(0);
+            mappings.add(typeMapping(Integer.class, HtmlInputType.RANGE));
+            SirenAction after = converter.to(newArrayList(source)).getActions().get(0);
+
+            assertThat(before.getFields()).filteredOn(f -> "age".equals(f.getName())).extracting(SirenAction.Field::getType)
+                .containsExactly(HtmlInputType.NUMBER_VALUE);
+            assertThat(after.getFields()).filteredOn(f -> "age".equals(f.getName())).extracting(SirenAction.Field::getType)
+                .containsExactly(HtmlInputType.RANGE_VALUE);
+        }
+
+        @Test
+        void containing_only_links_and_actions_accepted_by_the_filters() {
+            WebMvcPersonController controller = methodOn(WebMvcPersonController.class);
+            Link self = linkTo(controller.findOne(1)).withSelfRel().andAffordance(afford(controller.update(1, null)))
+                .andAffordance(afford(controller.patch(1, null)));
+            Link persons = linkTo(controller.findAll()).withRel("persons");
+
+            SirenLinkConverter converter = new SirenLinkConverter(DEFAULTS_ONLY, new SirenActionFieldTypeConverter() {
+            });
+            SirenNavigables actual =
+                converter.to(newArrayList(self, persons), rel -> rel.isSameAs(SELF), name -> "patch".equals(name));
+
+            assertThat(actual.getLinks()).extracting(SirenLink::getHref).containsExactly("/persons/1");
+            assertThat(actual.getActions()).extracting(SirenAction::getName).containsExactly("patch");
+        }
+
+        @Test
+        void not_converting_links_and_actions_rejected_by_the_filters() {
+            WebMvcPersonController controller = methodOn(WebMvcPersonController.class);
+            Link source = linkTo(controller.findOne(1)).withSelfRel().andAffordance(afford(controller.update(1, null)));
+
+            AtomicInteger resolutions = new AtomicInteger();
+            AtomicInteger executions = new AtomicInteger();
+            SirenLinkConverter converter = new SirenLinkConverter(resolvable -> {
+                resolutions.incrementAndGet();
+                return null;
+            }, new SirenActionFieldTypeConverter() {
+
+                @Override
+                public Optional<HtmlInputType> execute(PropertyMetadata propertyMetadata, MediaType actionType) {
+                    executions.incrementAndGet();
+                    return SirenActionFieldTypeConverter.super.execute(propertyMetadata, actionType);
+                }
+            });
+            SirenNavigables actual = converter.to(newArrayList(source), rel -> false, name -> false);
+
+            assertThat(actual.getLinks()).isEmpty();
+            assertThat(actual.getActions()).isEmpty();
+            assertThat(resolutions).hasValue(0);
+            assertThat(executions).hasValue(0);
+        }
     }
 
     @Nested
@@ -32,10 +32,12 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
+import org.springframework.http.MediaType;
 
 class SirenLinkDiscovererTest {
 
     private static final SirenLinkDiscoverer discoverer = new SirenLinkDiscoverer();
+    private static final SirenLinkDiscoverer nestedDiscoverer = new SirenLinkDiscoverer(true);
 
     @Nested
     class FindLinkWithRel {
@@ -65,6 +67,42 @@ class SirenLinkDiscovererTest {
                 Optional<Link> link = discoverer.findLinkWithRel(rel, source);
                 assertThat(link).map(Link::getHref).hasValue(href);
             }
+
+            @Test
+            void should_return_title_and_type_of_link() {
+                String source =
+                    "{\"links\":[{\"rel\":[\"self\"],\"href\":\"/persons\",\"title\":\"Persons\",\"type\":\"text/html\"}]}";
+
+                Optional<Link> link = discoverer.findLinkWithRel(SELF, source);
+                assertThat(link).hasValue(Link.of("/persons", SELF).withTitle("Persons").withType("text/html"));
+            }
+
+            @Test
+            void should_ignore_links_of_sub_entities() throws IOException {
+                String source = read(resource("collection-model/containing_entitymodels.json"));
+                assertThat(discoverer.findLinkWithRel("person", source)).isEmpty();
+            }
+
+            @Test
+            void should_return_link_of_sub_entity_if_nested_links_are_included() throws IOException {
+                String source = read(resource("collection-model/containing_entitymodels.json"));
+
+                Optional<Link> link = nestedDiscoverer.findLinkWithRel("person", source);
+                assertThat(link).map(Link::getHref).hasValue("/persons/1");
+            }
+
+            @Test
+            void should_stop_reading_as_soon_as_the_link_is_found() {
+                String source = "{\"links\":[{\"rel\":[\"self\"],\"href\":\"/persons\"}, this is not parsed anymore";
+
+                Optional<Link> link = discoverer.findLinkWithRel(SELF, source);
+                assertThat(link).map(Link::getHref).hasValue("/persons");
+            }
+
+            @Test
+            void should_return_empty_optional_if_source_is_not_an_object() {
+                assertThat(discoverer.findLinkWithRel(SELF, "[]")).isEmpty();
+            }
         }
 
         @Nested
@@ -119,10 +157,11 @@ class SirenLinkDiscovererTest {
             }
 
             @Test
-            void should_return_person_links() throws IOException {
+            void should_return_person_links_of_sub_entities_if_nested_links_are_included() throws IOException {
                 String source = read(resource("collection-model/containing_entitymodels.json"));
 
-                assertThat(discoverer.findLinksWithRel("person", source)) //
+                assertThat(discoverer.findLinksWithRel("person", source)).isEmpty();
+                assertThat(nestedDiscoverer.findLinksWithRel("person", source)) //
                     .extracting("href") //
                     .containsExactlyInAnyOrder("/persons/1", "/persons/2", "/persons/3", "/persons/4");
             }
@@ -148,9 +187,9 @@ class SirenLinkDiscovererTest {
             }
 
             @Test
-            void should_return_person_links() throws IOException {
+            void should_return_person_links_of_sub_entities_if_nested_links_are_included() throws IOException {
                 try (InputStream source = source("collection-model/containing_entitymodels.json")) {
-                    assertThat(discoverer.findLinksWithRel("person", source)) //
+                    assertThat(nestedDiscoverer.findLinksWithRel("person", source)) //
                         .extracting("href") //
                         .containsExactlyInAnyOrder("/persons/1", "/persons/2", "/persons/3", "/persons/4");
                 }
@@ -158,6 +197,20 @@ class SirenLinkDiscovererTest {
         }
     }
 
+    @Nested
+    class Supports {
+
+        @Test
+        void should_support_siren_json() {
+            assertThat(discoverer.supports(MediaTypes.SIREN_JSON)).isTrue();
+        }
+
+        @Test
+        void should_not_support_other_media_types() {
+            assertThat(discoverer.supports(MediaType.APPLICATION_XML)).isFalse();
+        }
+    }
+
     private InputStream source(String path) throws IOException {
         return resource(path).getInputStream();
     }
@@ -0,0 +1,147 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static de.ingogriebsch.spring.hateoas.siren.support.ResourceReader.read;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.IanaLinkRelations.APPENDIX;
+import static org.springframework.hateoas.IanaLinkRelations.SELF;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+
+class SirenLinkIndexTest {
+
+    private static final SirenLinkDiscoverer discoverer = new SirenLinkDiscoverer();
+    private static final SirenLinkDiscoverer nestedDiscoverer = new SirenLinkDiscoverer(true);
+
+    @Nested
+    class FromString {
+
+        @ParameterizedTest
+        @CsvSource(value = { "self,/persons", "about,/about", "help,/help", "license,/license" })
+        void should_return_matching_link(LinkRelation rel, String href) throws IOException {
+            SirenLinkIndex index = discoverer.index(read(resource("representation-model/containing_links.json")));
+            assertThat(index.findLinkWithRel(rel)).map(Link::getHref).hasValue(href);
+        }
+
+        @Test
+        void should_return_empty_optional_if_not_available() throws IOException {
+            SirenLinkIndex index = discoverer.index(read(resource("representation-model/containing_links.json")));
+
+            assertThat(index.findLinkWithRel(APPENDIX)).isEmpty();
+            assertThat(index.findLinksWithRel(APPENDIX)).isEmpty();
+        }
+
+        @Test
+        void should_return_all_links_in_document_order() throws IOException {
+            SirenLinkIndex index = discoverer.index(read(resource("representation-model/containing_links.json")));
+
+            assertThat(index.getLinks()).extracting("href").containsExactly("/persons", "/about", "/help", "/license");
+        }
+    }
+
+    @Nested
+    class FromBytes {
+
+        @Test
+        void should_return_matching_link() throws IOException {
+            byte[] source = read(resource("representation-model/containing_links.json")).getBytes(UTF_8);
+
+            SirenLinkIndex index = discoverer.index(source);
+            assertThat(index.findLinkWithRel(SELF)).map(Link::getHref).hasValue("/persons");
+        }
+    }
+
+    @Nested
+    class FromInputStream {
+
+        @Test
+        void should_return_matching_link_and_leave_stream_open() throws IOException {
+            byte[] source = read(resource("representation-model/containing_links.json")).getBytes(UTF_8);
+            ClosingAwareInputStream stream = new ClosingAwareInputStream(source);
+
+            SirenLinkIndex index = discoverer.index(stream);
+            assertThat(index.findLinkWithRel(SELF)).map(Link::getHref).hasValue("/persons");
+            assertThat(stream.closed).isFalse();
+        }
+    }
+
+    @Test
+    void should_index_link_once_per_rel() {
+        String source = "{\"links\":[{\"rel\":[\"self\",\"first\"],\"href\":\"/persons\",\"title\":\"Persons\"}]}";
+
+        SirenLinkIndex index = discoverer.index(source);
+        assertThat(index.findLinkWithRel(SELF)).hasValue(Link.of("/persons", SELF).withTitle("Persons"));
+        assertThat(index.findLinkWithRel("first")).hasValue(Link.of("/persons", "first").withTitle("Persons"));
+        assertThat(index.getLinks()).hasSize(2);
+    }
+
+    @Test
+    void should_ignore_links_of_sub_entities() throws IOException {
+        SirenLinkIndex index = discoverer.index(read(resource("collection-model/containing_entitymodels.json")));
+
+        assertThat(index.findLinksWithRel("person")).isEmpty();
+        assertThat(index.findLinksWithRel(SELF)).extracting("href").containsExactly("/persons");
+    }
+
+    @Test
+    void should_contain_links_of_sub_entities_if_nested_links_are_included() throws IOException {
+        SirenLinkIndex index = nestedDiscoverer.index(read(resource("collection-model/containing_entitymodels.json")));
+
+        assertThat(index.findLinksWithRel("person")) //
+            .extracting("href") //
+            .containsExactly("/persons/1", "/persons/2", "/persons/3", "/persons/4");
+        assertThat(index.findLinksWithRel(SELF)).extracting("href").containsExactly("/persons");
+    }
+
+    @Test
+    void should_be_empty_if_source_is_not_an_object() {
+        SirenLinkIndex index = discoverer.index("[]");
+
+        assertThat(index.getLinks()).isEmpty();
+        assertThat(index.findLinkWithRel(SELF)).isEmpty();
+    }
+
+    private static ClassPathResource resource(String path) {
+        return new ClassPathResource(path, SirenLinkIndexTest.class);
+    }
+
+    private static class ClosingAwareInputStream extends ByteArrayInputStream {
+
+        private boolean closed;
+
+        ClosingAwareInputStream(byte[] source) {
+            super(source);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
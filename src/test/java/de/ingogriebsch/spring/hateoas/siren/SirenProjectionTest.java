@@ -0,0 +1,130 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static de.ingogriebsch.spring.hateoas.siren.SirenProjection.Section.ACTIONS;
+import static de.ingogriebsch.spring.hateoas.siren.SirenProjection.Section.ENTITIES;
+import static de.ingogriebsch.spring.hateoas.siren.SirenProjection.Section.LINKS;
+import static de.ingogriebsch.spring.hateoas.siren.SirenProjection.Section.PROPERTIES;
+import static de.ingogriebsch.spring.hateoas.siren.SirenProjection.Section.TITLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.IanaLinkRelations.ITEM;
+import static org.springframework.hateoas.IanaLinkRelations.NEXT;
+import static org.springframework.hateoas.IanaLinkRelations.SELF;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.LinkRelation;
+
+class SirenProjectionTest {
+
+    @Test
+    void of_should_return_null_if_nothing_is_requested() {
+        assertThat(SirenProjection.of(null, null)).isNull();
+        assertThat(SirenProjection.of(newArrayList(""), newArrayList(" , "))).isNull();
+    }
+
+    @Test
+    void fields_should_restrict_the_properties_but_nothing_else() {
+        SirenProjection projection = SirenProjection.of(newArrayList("name, age"), null);
+
+        assertThat(projection.fields()).containsExactlyInAnyOrder("name", "age");
+        assertThat(projection.includes(PROPERTIES)).isTrue();
+        assertThat(projection.includes(ENTITIES)).isTrue();
+        assertThat(projection.includes(TITLE)).isTrue();
+        assertThat(projection.includesLink(SELF)).isTrue();
+        assertThat(projection.includesAction("update")).isTrue();
+    }
+
+    @Test
+    void include_should_restrict_the_sections_and_imply_the_properties_if_fields_are_requested() {
+        SirenProjection projection = SirenProjection.of(newArrayList("name", "age"), newArrayList("links,actions:update"));
+
+        assertThat(projection.includes(PROPERTIES)).isTrue();
+        assertThat(projection.includes(ENTITIES)).isFalse();
+        assertThat(projection.includes(TITLE)).isFalse();
+        assertThat(projection.includesLink(SELF)).isTrue();
+        assertThat(projection.includesLink(NEXT)).isTrue();
+        assertThat(projection.includesAction("update")).isTrue();
+        assertThat(projection.includesAction("patch")).isFalse();
+    }
+
+    @Test
+    void include_should_not_imply_the_properties_if_no_fields_are_requested() {
+        SirenProjection projection = SirenProjection.of(null, newArrayList("links"));
+
+        assertThat(projection.includes(PROPERTIES)).isFalse();
+        assertThat(projection.includes(ACTIONS)).isFalse();
+        assertThat(projection.includesAction("update")).isFalse();
+    }
+
+    @Test
+    void include_should_restrict_links_by_rel_unless_all_are_requested() {
+        assertThat(SirenProjection.of(null, newArrayList("links:self")).includesLink(NEXT)).isFalse();
+        assertThat(SirenProjection.of(null, newArrayList("links:self")).includesLink(SELF)).isTrue();
+        assertThat(SirenProjection.of(null, newArrayList("links:self", "links")).includesLink(NEXT)).isTrue();
+    }
+
+    @Test
+    void include_should_ignore_the_case_of_sections() {
+        SirenProjection projection = SirenProjection.of(null, newArrayList("Links"));
+
+        assertThat(projection.includes(LINKS)).isTrue();
+        assertThat(projection.includes(TITLE)).isFalse();
+    }
+
+    @Test
+    void child_should_return_the_projection_of_dotted_paths() {
+        SirenProjection projection =
+            SirenProjection.of(newArrayList("name", "item.name", "item.author.name"), newArrayList("item.links:self"));
+
+        SirenProjection item = projection.child(newArrayList(ITEM));
+        assertThat(item.fields()).containsExactly("name");
+        assertThat(item.includes(PROPERTIES)).isTrue();
+        assertThat(item.includes(ENTITIES)).isTrue();
+        assertThat(item.includes(ACTIONS)).isFalse();
+        assertThat(item.includesLink(SELF)).isTrue();
+        assertThat(item.includesLink(NEXT)).isFalse();
+
+        SirenProjection author = item.child(newArrayList(LinkRelation.of("author")));
+        assertThat(author.fields()).containsExactly("name");
+        assertThat(author.includes(TITLE)).isTrue();
+    }
+
+    @Test
+    void child_should_return_an_unrestricted_projection_for_other_sub_entities_if_entities_are_not_restricted() {
+        SirenProjection projection = SirenProjection.of(newArrayList("name", "item.name"), null);
+
+        assertThat(projection.child(newArrayList(LinkRelation.of("other")))).isSameAs(SirenProjection.NONE);
+    }
+
+    @Test
+    void child_should_return_null_for_other_sub_entities_if_only_paths_are_included() {
+        SirenProjection projection = SirenProjection.of(null, newArrayList("links", "item"));
+
+        assertThat(projection.includes(ENTITIES)).isTrue();
+        assertThat(projection.child(newArrayList(ITEM))).isNotNull();
+        assertThat(projection.child(newArrayList(LinkRelation.of("other")))).isNull();
+    }
+
+    @Test
+    void child_should_return_an_unrestricted_projection_for_all_sub_entities_if_entities_are_included() {
+        SirenProjection projection = SirenProjection.of(null, newArrayList("entities", "item.links"));
+
+        assertThat(projection.child(newArrayList(LinkRelation.of("other")))).isSameAs(SirenProjection.NONE);
+        assertThat(projection.child(newArrayList(ITEM)).includes(TITLE)).isFalse();
+    }
+}
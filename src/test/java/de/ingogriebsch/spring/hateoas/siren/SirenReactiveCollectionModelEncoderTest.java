@@ -0,0 +1,125 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_JSON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.IanaLinkRelations.SELF;
+import static org.springframework.hateoas.mediatype.MessageResolver.DEFAULTS_ONLY;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.ingogriebsch.spring.hateoas.siren.support.Person;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class SirenReactiveCollectionModelEncoderTest {
+
+    private static final ResolvableType ELEMENT_TYPE = ResolvableType.forClass(SirenReactiveCollectionModel.class);
+
+    private static ObjectMapper objectMapper;
+    private static SirenReactiveCollectionModelEncoder encoder;
+
+    @BeforeAll
+    static void beforeAll() {
+        SirenMediaTypeConfiguration sirenMediaTypeConfiguration = SirenMediaTypeConfiguration.of(DEFAULTS_ONLY,
+            new SirenConfiguration(), SirenEntityClassProvider.DEFAULT_INSTANCE, SirenEntityRelProvider.DEFAULT_INSTANCE,
+            new TypeBasedSirenActionFieldTypeConverter(), RepresentationModelFactories.DEFAULT_INSTANCE);
+
+        objectMapper = sirenMediaTypeConfiguration.configureObjectMapper(new ObjectMapper());
+        encoder = new SirenReactiveCollectionModelEncoder(objectMapper, SirenMetrics.NONE);
+    }
+
+    @Test
+    void canEncode_should_return_true_if_type_and_mime_type_match() {
+        assertThat(encoder.canEncode(ELEMENT_TYPE, SIREN_JSON)).isTrue();
+        assertThat(encoder.canEncode(ELEMENT_TYPE, null)).isTrue();
+    }
+
+    @Test
+    void canEncode_should_return_false_if_type_or_mime_type_do_not_match() {
+        assertThat(encoder.canEncode(ResolvableType.forClass(CollectionModel.class), SIREN_JSON)).isFalse();
+        assertThat(encoder.canEncode(ELEMENT_TYPE, APPLICATION_JSON)).isFalse();
+    }
+
+    @Test
+    void encode_should_write_the_same_entity_as_the_one_of_a_collection_model() throws Exception {
+        List<EntityModel<Person>> content = persons(3);
+        Link self = Link.of("/persons", SELF);
+
+        String expected = objectMapper.writeValueAsString(CollectionModel.of(content, self));
+        String actual = encodeToString(SirenReactiveCollectionModel.of(Flux.fromIterable(content), self));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void encode_should_write_the_same_entity_as_the_one_of_a_collection_model_if_content_is_empty() throws Exception {
+        Link self = Link.of("/persons", SELF);
+
+        String expected = objectMapper.writeValueAsString(CollectionModel.empty(self));
+        String actual = encodeToString(SirenReactiveCollectionModel.of(Flux.empty(), self));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void encode_should_emit_one_buffer_per_item_and_one_for_the_end() {
+        SirenReactiveCollectionModel<?> model = SirenReactiveCollectionModel.of(Flux.fromIterable(persons(3)));
+
+        StepVerifier.create(encode(model)).expectNextCount(4).verifyComplete();
+    }
+
+    @Test
+    void encode_should_request_items_on_demand_only() {
+        AtomicLong requested = new AtomicLong();
+        Flux<EntityModel<Person>> content = Flux.fromIterable(persons(10)).doOnRequest(requested::addAndGet);
+        SirenReactiveCollectionModel<?> model = SirenReactiveCollectionModel.of(content);
+
+        StepVerifier.create(encode(model), 2).expectNextCount(2).thenCancel().verify();
+        assertThat(requested.get()).isLessThan(10);
+    }
+
+    private static Flux<DataBuffer> encode(SirenReactiveCollectionModel<?> model) {
+        return encoder.encode(Mono.just(model), DefaultDataBufferFactory.sharedInstance, ELEMENT_TYPE, SIREN_JSON, null);
+    }
+
+    private static String encodeToString(SirenReactiveCollectionModel<?> model) {
+        return encode(model).map(buffer -> buffer.toString(UTF_8)).collect(joining()).block();
+    }
+
+    private static List<EntityModel<Person>> persons(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> EntityModel.of(new Person("Person " + i, i), Link.of("/persons/" + i, SELF))).collect(toList());
+    }
+}
@@ -0,0 +1,128 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.IanaLinkRelations.ITEM;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.RepresentationModel;
+
+class SirenSerializationContextTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void of_should_return_the_same_context_for_the_same_provider() {
+        SerializerProvider provider = OBJECT_MAPPER.getSerializerProviderInstance();
+        assertThat(SirenSerializationContext.of(provider)).isSameAs(SirenSerializationContext.of(provider));
+    }
+
+    @Test
+    void of_should_return_a_dedicated_context_per_provider() {
+        assertThat(SirenSerializationContext.of(OBJECT_MAPPER.getSerializerProviderInstance()))
+            .isNotSameAs(SirenSerializationContext.of(OBJECT_MAPPER.getSerializerProviderInstance()));
+    }
+
+    @Test
+    void enter_and_leave_should_track_parent_and_depth() {
+        SirenSerializationContext context = SirenSerializationContext.of(OBJECT_MAPPER.getSerializerProviderInstance());
+        RepresentationModel<?> root = new RepresentationModel<>();
+        RepresentationModel<?> child = EntityModel.of("child");
+
+        assertThat(context.parent()).isNull();
+        assertThat(context.depth()).isZero();
+
+        context.enter(root);
+        context.enter(child);
+        assertThat(context.parent()).isSameAs(child);
+        assertThat(context.depth()).isEqualTo(2);
+
+        context.leave();
+        assertThat(context.parent()).isSameAs(root);
+        assertThat(context.depth()).isEqualTo(1);
+
+        context.leave();
+        assertThat(context.parent()).isNull();
+        assertThat(context.depth()).isZero();
+    }
+
+    @Test
+    void enter_should_apply_the_projection_of_the_document_to_the_entered_entities() {
+        SerializerProvider provider = OBJECT_MAPPER.getSerializerProviderInstance();
+        provider.setAttribute(SirenProjection.class, SirenProjection.of(newArrayList("item.name"), newArrayList("links")));
+        SirenSerializationContext context = SirenSerializationContext.of(provider);
+
+        assertThat(context.enter(new RepresentationModel<>(), newArrayList())).isTrue();
+        assertThat(context.projection().includes(SirenProjection.Section.LINKS)).isTrue();
+        assertThat(context.projection().includes(SirenProjection.Section.TITLE)).isFalse();
+
+        assertThat(context.enter(EntityModel.of("other"), newArrayList(LinkRelation.of("other")))).isFalse();
+        assertThat(context.depth()).isEqualTo(1);
+
+        assertThat(context.enter(EntityModel.of("child"), newArrayList(ITEM))).isTrue();
+        assertThat(context.projection().fields()).containsExactly("name");
+        assertThat(context.depth()).isEqualTo(2);
+
+        context.leave();
+        assertThat(context.projection().fields()).isNull();
+    }
+
+    @Test
+    void stopStatistics_should_return_statistics_of_entities_entered_since_start() {
+        SirenSerializationContext context = SirenSerializationContext.of(OBJECT_MAPPER.getSerializerProviderInstance());
+        SirenLink link = SirenLink.builder().rel("self").href("/").build();
+
+        assertThat(context.stopStatistics()).isNull();
+
+        context.startStatistics(42, 7, new SirenEvents.Serialization());
+        context.enter(new RepresentationModel<>());
+        context.count(SirenNavigables.of(newArrayList(link), newArrayList()));
+        context.enter(EntityModel.of("first"));
+        context.count(SirenNavigables.of(newArrayList(link, link), newArrayList()));
+        context.leave();
+        context.enter(EntityModel.of("second"));
+        context.leave();
+        context.leave();
+
+        SirenSerializationContext.Statistics statistics = context.stopStatistics();
+        assertThat(statistics).isNotNull();
+        assertThat(statistics.getStart()).isEqualTo(42);
+        assertThat(statistics.getPosition()).isEqualTo(7);
+        assertThat(statistics.getEntities()).isEqualTo(2);
+        assertThat(statistics.getLinks()).isEqualTo(3);
+        assertThat(statistics.getActions()).isZero();
+        assertThat(statistics.getDepth()).isEqualTo(2);
+        assertThat(context.stopStatistics()).isNull();
+    }
+
+    @Test
+    void takePendingRels_should_return_pending_rels_only_once() {
+        SirenSerializationContext context = SirenSerializationContext.of(OBJECT_MAPPER.getSerializerProviderInstance());
+        List<LinkRelation> rels = newArrayList(ITEM);
+
+        assertThat(context.pendingRels(rels)).isNull();
+        assertThat(context.takePendingRels()).isSameAs(rels);
+        assertThat(context.takePendingRels()).isNull();
+    }
+}
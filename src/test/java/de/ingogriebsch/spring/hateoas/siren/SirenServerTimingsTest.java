@@ -0,0 +1,77 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.mediatype.MessageResolver.DEFAULTS_ONLY;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.EntityModel;
+
+class SirenServerTimingsTest {
+
+    private static final long SLOW_MILLIS = 20;
+
+    @Test
+    void toHeaderValue_should_contain_accumulated_phases_in_milliseconds() {
+        SirenServerTimings timings = new SirenServerTimings();
+        timings.links(1_000_000);
+        timings.links(500_000);
+        timings.properties(250_000);
+        timings.titles(125_000);
+
+        assertThat(timings.toHeaderValue(4_000_000)).isEqualTo( //
+            "siren-links;dur=1.500;desc=\"Link and action conversion\", " //
+                    + "siren-properties;dur=0.250;desc=\"Property extraction\", " //
+                    + "siren-titles;dur=0.125;desc=\"Title lookup\", " //
+                    + "siren-json;dur=2.125;desc=\"JSON writing\"");
+    }
+
+    @Test
+    void toHeaderValue_should_not_report_negative_json_writing() {
+        SirenServerTimings timings = new SirenServerTimings();
+        timings.links(2_000_000);
+
+        assertThat(timings.toHeaderValue(1_000_000)).endsWith("siren-json;dur=0.000;desc=\"JSON writing\"");
+    }
+
+    @Test
+    void serialization_should_count_reading_the_properties_as_property_extraction() throws Exception {
+        ObjectMapper objectMapper =
+            SirenMediaTypeConfiguration.of(DEFAULTS_ONLY, new SirenConfiguration(), SirenEntityClassProvider.DEFAULT_INSTANCE,
+                SirenEntityRelProvider.DEFAULT_INSTANCE, new TypeBasedSirenActionFieldTypeConverter(),
+                RepresentationModelFactories.DEFAULT_INSTANCE).configureObjectMapper(new ObjectMapper());
+        SirenServerTimings timings = new SirenServerTimings();
+
+        objectMapper.writer().withAttribute(SirenServerTimings.class, timings).writeValueAsString(EntityModel.of(new Slow()));
+
+        Matcher matcher = Pattern.compile("siren-properties;dur=([0-9.]+);").matcher(timings.toHeaderValue(0));
+        assertThat(matcher.find()).isTrue();
+        assertThat(Double.parseDouble(matcher.group(1))).isGreaterThanOrEqualTo(SLOW_MILLIS);
+    }
+
+    static class Slow {
+
+        public String getName() throws InterruptedException {
+            Thread.sleep(SLOW_MILLIS);
+            return "slow";
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_JSON;
+import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_SMILE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.mediatype.MessageResolver.DEFAULTS_ONLY;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.ingogriebsch.spring.hateoas.siren.support.Person;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.MediaType;
+
+class SirenSmileDecoderTest {
+
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    private static SirenSmileDecoder decoder;
+
+    @BeforeAll
+    static void beforeAll() {
+        SirenMediaTypeConfiguration sirenMediaTypeConfiguration = SirenMediaTypeConfiguration.of(DEFAULTS_ONLY,
+            new SirenConfiguration(), SirenEntityClassProvider.DEFAULT_INSTANCE, SirenEntityRelProvider.DEFAULT_INSTANCE,
+            new TypeBasedSirenActionFieldTypeConverter(), RepresentationModelFactories.DEFAULT_INSTANCE);
+
+        decoder = new SirenSmileDecoder(
+            new SirenSmileMappingInformation(sirenMediaTypeConfiguration).configureObjectMapper(new ObjectMapper()));
+    }
+
+    @Test
+    void canDecode_should_return_true_for_representation_models_as_siren_smile() {
+        assertThat(decoder.canDecode(ResolvableType.forClass(RepresentationModel.class), SIREN_SMILE)).isTrue();
+        assertThat(decoder.canDecode(ResolvableType.forClassWithGenerics(EntityModel.class, Person.class), SIREN_SMILE)).isTrue();
+    }
+
+    @Test
+    void canDecode_should_return_false_for_other_types() {
+        assertThat(decoder.canDecode(ResolvableType.forClass(Person.class), SIREN_SMILE)).isFalse();
+    }
+
+    @Test
+    void canDecode_should_return_false_for_other_media_types() {
+        ResolvableType type = ResolvableType.forClass(RepresentationModel.class);
+        assertThat(decoder.canDecode(type, SMILE)).isFalse();
+        assertThat(decoder.canDecode(type, SIREN_JSON)).isFalse();
+        assertThat(decoder.canDecode(type, APPLICATION_JSON)).isFalse();
+    }
+}
@@ -0,0 +1,177 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static java.util.stream.Collectors.toList;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.hateoas.IanaLinkRelations.SELF;
+import static org.springframework.hateoas.mediatype.MessageResolver.DEFAULTS_ONLY;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.ingogriebsch.spring.hateoas.siren.support.Person;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+
+class SirenStreamingCollectionModelTest {
+
+    private static ObjectMapper objectMapper;
+
+    @BeforeAll
+    static void beforeAll() {
+        SirenMediaTypeConfiguration sirenMediaTypeConfiguration = SirenMediaTypeConfiguration.of(DEFAULTS_ONLY,
+            new SirenConfiguration(), SirenEntityClassProvider.DEFAULT_INSTANCE, SirenEntityRelProvider.DEFAULT_INSTANCE,
+            new TypeBasedSirenActionFieldTypeConverter(), RepresentationModelFactories.DEFAULT_INSTANCE);
+
+        objectMapper = sirenMediaTypeConfiguration.configureObjectMapper(new ObjectMapper());
+    }
+
+    @Test
+    void serialize_should_write_the_same_entity_as_a_collection_model() throws Exception {
+        List<EntityModel<Person>> content = persons(3).collect(toList());
+        Link self = Link.of("/persons", SELF);
+
+        String expected = objectMapper.writeValueAsString(CollectionModel.of(content, self));
+        String actual = objectMapper.writeValueAsString(SirenStreamingCollectionModel.of(content.stream(), self));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void serialize_should_write_an_iterator_based_model() throws Exception {
+        Link self = Link.of("/persons", SELF);
+
+        String expected = objectMapper.writeValueAsString(CollectionModel.of(newArrayList(persons(2).iterator()), self));
+        String actual = objectMapper.writeValueAsString(SirenStreamingCollectionModel.of(persons(2).iterator(), self));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void serialize_should_pull_the_content_while_writing() throws Exception {
+        AtomicInteger produced = new AtomicInteger();
+        Stream<EntityModel<Person>> content = persons(5).peek(p -> produced.incrementAndGet());
+        SirenStreamingCollectionModel<EntityModel<Person>> model = SirenStreamingCollectionModel.of(content);
+
+        assertThat(produced).hasValue(0);
+        objectMapper.writeValueAsString(model);
+        assertThat(produced).hasValue(5);
+    }
+
+    @Test
+    void serialize_should_close_the_stream_if_writing_completes() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        SirenStreamingCollectionModel<EntityModel<Person>> model =
+            SirenStreamingCollectionModel.of(persons(2).onClose(() -> closed.set(true)));
+
+        objectMapper.writeValueAsString(model);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void serialize_should_close_the_stream_if_writing_fails() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<EntityModel<Person>> content = persons(2).map(p -> {
+            throw new IllegalStateException("Failure while producing the content!");
+        });
+        SirenStreamingCollectionModel<EntityModel<Person>> model =
+            SirenStreamingCollectionModel.of(content.onClose(() -> closed.set(true)));
+
+        assertThatThrownBy(() -> objectMapper.writeValueAsString(model)).isInstanceOf(JsonMappingException.class);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void serialize_should_close_a_closeable_iterator() throws Exception {
+        CloseableIterator<EntityModel<Person>> iterator = new CloseableIterator<>(persons(2).iterator());
+
+        objectMapper.writeValueAsString(SirenStreamingCollectionModel.of(iterator));
+        assertThat(iterator.closed).isTrue();
+    }
+
+    @Test
+    void iterator_should_throw_exception_if_content_was_already_consumed() {
+        SirenStreamingCollectionModel<EntityModel<Person>> model = SirenStreamingCollectionModel.of(persons(1));
+        model.iterator();
+
+        assertThatThrownBy(model::iterator).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void getContent_should_throw_exception_without_materializing_the_content() {
+        AtomicInteger produced = new AtomicInteger();
+        SirenStreamingCollectionModel<EntityModel<Person>> model =
+            SirenStreamingCollectionModel.of(persons(2).peek(p -> produced.incrementAndGet()));
+
+        assertThatThrownBy(model::getContent).isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("SirenStreamingCollectionModel");
+        assertThat(produced).hasValue(0);
+    }
+
+    @Test
+    void serialize_should_fail_and_close_the_stream_if_not_rendered_as_siren() {
+        AtomicBoolean closed = new AtomicBoolean();
+        SirenStreamingCollectionModel<EntityModel<Person>> model =
+            SirenStreamingCollectionModel.of(persons(2).onClose(() -> closed.set(true)));
+
+        assertThatThrownBy(() -> new ObjectMapper().writeValueAsString(model)).isInstanceOf(JsonMappingException.class)
+            .hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThat(closed).isTrue();
+    }
+
+    private static Stream<EntityModel<Person>> persons(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> EntityModel.of(new Person("Person " + i, i), Link.of("/persons/" + i, SELF)));
+    }
+
+    private static class CloseableIterator<T> implements Iterator<T>, AutoCloseable {
+
+        private final Iterator<T> delegate;
+        private boolean closed;
+
+        CloseableIterator(Iterator<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return delegate.next();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
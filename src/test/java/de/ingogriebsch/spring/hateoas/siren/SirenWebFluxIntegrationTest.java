@@ -16,30 +16,37 @@
 package de.ingogriebsch.spring.hateoas.siren;
 
 import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_JSON;
+import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_SMILE;
 import static de.ingogriebsch.spring.hateoas.siren.support.ResourceReader.read;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.test.context.NestedTestConfiguration.EnclosingConfiguration.OVERRIDE;
 import static org.springframework.test.web.reactive.server.WebTestClient.bindToApplicationContext;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import de.ingogriebsch.spring.hateoas.siren.support.WebFluxPersonController;
 import lombok.RequiredArgsConstructor;
 import org.assertj.core.matcher.AssertionMatcher;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
 import org.springframework.hateoas.config.HypermediaWebTestClientConfigurer;
-import org.springframework.hateoas.mediatype.MessageResolver;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.NestedTestConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.util.JsonPathExpectationsHelper;
@@ -52,6 +59,8 @@ import org.springframework.web.reactive.config.EnableWebFlux;
 @WebAppConfiguration
 class SirenWebFluxIntegrationTest {
 
+    private static final int SERVER_TIMING_MAXIMUM_BODY_SIZE = 1024;
+
     @Autowired
     private WebTestClient testClient;
 
@@ -127,6 +136,18 @@ class SirenWebFluxIntegrationTest {
             .value(jsonPath("$.links[1].href", is("http://localhost/persons")));
     }
 
+    @Test
+    void findOne_as_smile() throws Exception {
+        byte[] json = testClient.get().uri("http://localhost/persons/0").accept(SIREN_JSON).exchange().expectBody(byte[].class)
+            .returnResult().getResponseBody();
+
+        ResponseSpec response = testClient.get().uri("http://localhost/persons/0").accept(SIREN_SMILE).exchange();
+        response.expectStatus().isOk().expectHeader().contentType(SIREN_SMILE);
+
+        byte[] smile = response.expectBody(byte[].class).returnResult().getResponseBody();
+        assertThat(new ObjectMapper(new SmileFactory()).readTree(smile)).isEqualTo(new ObjectMapper().readTree(json));
+    }
+
     @Test
     void insert() throws Exception {
         ResponseSpec response = testClient.post().uri("http://localhost/persons").contentType(SIREN_JSON)
@@ -154,6 +175,113 @@ class SirenWebFluxIntegrationTest {
             .expectHeader().valueEquals(LOCATION, "http://localhost/persons/0");
     }
 
+    @Nested
+    @NestedTestConfiguration(OVERRIDE)
+    @ContextConfiguration
+    @WebAppConfiguration
+    class ServerTiming {
+
+        @Autowired
+        private WebTestClient testClient;
+
+        @Test
+        void findOne_should_contain_server_timing_header() throws Exception {
+            byte[] expected = SirenWebFluxIntegrationTest.this.testClient.get().uri("http://localhost/persons/0")
+                .accept(SIREN_JSON).exchange().expectBody(byte[].class).returnResult().getResponseBody();
+
+            ResponseSpec response = testClient.get().uri("http://localhost/persons/0").accept(SIREN_JSON).exchange();
+            response.expectStatus().isOk().expectHeader().contentType(SIREN_JSON);
+
+            response.expectHeader().value(SirenServerTimings.HEADER, header -> assertThat(header).contains("siren-links;dur=",
+                "siren-properties;dur=", "siren-titles;dur=", "siren-json;dur="));
+            response.expectBody(byte[].class).isEqualTo(expected);
+        }
+
+        @Test
+        void search_should_not_contain_server_timing_header_if_body_exceeds_maximum_size() throws Exception {
+            ResponseSpec response = testClient.get().uri("http://localhost/persons/search").accept(SIREN_JSON).exchange();
+            response.expectStatus().isOk().expectHeader().doesNotExist(SirenServerTimings.HEADER);
+
+            response.expectBody(byte[].class).value(body -> assertThat(body).hasSizeGreaterThan(SERVER_TIMING_MAXIMUM_BODY_SIZE));
+        }
+
+        @Test
+        void findOne_as_smile_should_not_contain_server_timing_header() throws Exception {
+            ResponseSpec response = testClient.get().uri("http://localhost/persons/0").accept(SIREN_SMILE).exchange();
+            response.expectStatus().isOk().expectHeader().doesNotExist(SirenServerTimings.HEADER);
+        }
+
+        @Configuration
+        @Import(TestConfig.class)
+        static class ServerTimingConfig {
+
+            @Bean
+            SirenConfiguration sirenConfiguration() {
+                return new SirenConfiguration().withServerTimingMaximumBodySize(SERVER_TIMING_MAXIMUM_BODY_SIZE);
+            }
+        }
+    }
+
+    @Nested
+    @NestedTestConfiguration(OVERRIDE)
+    @ContextConfiguration
+    @WebAppConfiguration
+    class Projection {
+
+        @Autowired
+        private WebTestClient testClient;
+
+        @Test
+        void findOne_should_contain_requested_fields_links_and_actions_only() throws Exception {
+            ResponseSpec response = testClient.get()
+                .uri("http://localhost/persons/0?fields=name&include=links:self,actions:update").accept(SIREN_JSON).exchange();
+            response.expectStatus().isOk().expectHeader().contentType(SIREN_JSON);
+
+            response.expectBody(String.class) //
+                .value(jsonPath("$.class[0]", is(not(empty())))) //
+                .value(jsonPath("$.properties.name", is("Peter"))) //
+                .value(jsonPath("$.properties.age").doesNotExist()) //
+                .value(jsonPath("$.links", hasSize(1))) //
+                .value(jsonPath("$.links[0].rel[0]", is("self"))) //
+                .value(jsonPath("$.actions", hasSize(1))) //
+                .value(jsonPath("$.actions[0].name", is("update"))) //
+                .value(jsonPath("$.title").doesNotExist());
+        }
+
+        @Test
+        void search_should_apply_dotted_paths_to_sub_entities() throws Exception {
+            ResponseSpec response = testClient.get()
+                .uri("http://localhost/persons/search?fields=item.age&include=item.links:self").accept(SIREN_JSON).exchange();
+            response.expectStatus().isOk();
+
+            response.expectBody(String.class) //
+                .value(jsonPath("$.links[0].rel[0]", is("self"))) //
+                .value(jsonPath("$.entities", hasSize(3))) //
+                .value(jsonPath("$.entities[0].properties.age", is(33))) //
+                .value(jsonPath("$.entities[0].properties.name").doesNotExist()) //
+                .value(jsonPath("$.entities[0].links", hasSize(1)));
+        }
+
+        @Test
+        void findOne_should_not_be_projected_if_not_requested() throws Exception {
+            byte[] expected = SirenWebFluxIntegrationTest.this.testClient.get().uri("http://localhost/persons/0")
+                .accept(SIREN_JSON).exchange().expectBody(byte[].class).returnResult().getResponseBody();
+
+            ResponseSpec response = testClient.get().uri("http://localhost/persons/0").accept(SIREN_JSON).exchange();
+            response.expectStatus().isOk().expectBody(byte[].class).isEqualTo(expected);
+        }
+
+        @Configuration
+        @Import(TestConfig.class)
+        static class ProjectionConfig {
+
+            @Bean
+            SirenConfiguration sirenConfiguration() {
+                return new SirenConfiguration().withProjectionEnabled(true);
+            }
+        }
+    }
+
     private static JsonPathAssertionMatcher jsonPath(String expression) {
         return new JsonPathAssertionMatcher(expression, null);
     }
@@ -171,6 +299,7 @@ class SirenWebFluxIntegrationTest {
     @Configuration
     @EnableWebFlux
     @EnableHypermediaSupport(type = {})
+    @Import(SirenMediaTypeConfiguration.class)
     static class TestConfig {
 
         @Bean
@@ -178,17 +307,6 @@ class SirenWebFluxIntegrationTest {
             return new WebFluxPersonController();
         }
 
-        @Bean
-        SirenMediaTypeConfiguration sirenMediaTypeConfiguration(ObjectProvider<MessageResolver> messageResolver,
-            ObjectProvider<SirenConfiguration> configuration, ObjectProvider<SirenEntityClassProvider> entityClassProvider,
-            ObjectProvider<SirenEntityRelProvider> entityRelProvider,
-            ObjectProvider<SirenActionFieldTypeConverter> sirenActionFieldTypeConverter,
-            ObjectProvider<RepresentationModelFactories> representationModelFactories) {
-
-            return new SirenMediaTypeConfiguration(messageResolver, configuration, entityClassProvider, entityRelProvider,
-                sirenActionFieldTypeConverter, representationModelFactories);
-        }
-
         @Bean
         WebTestClient webTestClient(HypermediaWebTestClientConfigurer configurer, ApplicationContext ctx) {
             return bindToApplicationContext(ctx).build().mutateWith(configurer);
@@ -16,31 +16,40 @@
 package de.ingogriebsch.spring.hateoas.siren;
 
 import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_JSON;
+import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_SMILE;
 import static de.ingogriebsch.spring.hateoas.siren.support.ResourceReader.read;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.test.context.NestedTestConfiguration.EnclosingConfiguration.OVERRIDE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import de.ingogriebsch.spring.hateoas.siren.support.WebMvcPersonController;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
-import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.NestedTestConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
@@ -54,6 +63,9 @@ import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 @WebAppConfiguration
 class SirenWebMvcIntegrationTest {
 
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory());
+    private static final int SERVER_TIMING_MAXIMUM_BODY_SIZE = 1024;
+
     @Autowired
     private WebApplicationContext context;
 
@@ -95,6 +107,26 @@ class SirenWebMvcIntegrationTest {
             .andExpect(jsonPath("$.links[0].href", is("http://localhost/persons")));
     }
 
+    @Test
+    void findAll_as_smile() throws Exception {
+        byte[] json = mockMvc.perform(get("/persons").accept(SIREN_JSON)).andReturn().getResponse().getContentAsByteArray();
+
+        ResultActions result = mockMvc.perform(get("/persons").accept(SIREN_SMILE));
+        result.andExpect(status().isOk()).andExpect(content().contentType(SIREN_SMILE));
+
+        byte[] smile = result.andReturn().getResponse().getContentAsByteArray();
+        assertThat(SMILE_MAPPER.readTree(smile)).isEqualTo(new ObjectMapper().readTree(json));
+    }
+
+    @Test
+    void insert_as_smile() throws Exception {
+        String specBasedJson = read(new ClassPathResource("insert_person.json", getClass()));
+        byte[] specBasedSmile = SMILE_MAPPER.writeValueAsBytes(new ObjectMapper().readTree(specBasedJson));
+
+        ResultActions result = mockMvc.perform(post("/persons").content(specBasedSmile).contentType(SIREN_SMILE));
+        result.andExpect(status().isCreated()).andExpect(header().stringValues(LOCATION, "http://localhost/persons/3"));
+    }
+
     @Test
     void search() throws Exception {
         ResultActions result = mockMvc.perform(get("/persons/search").param("name", "Peter").accept(SIREN_JSON));
@@ -151,26 +183,150 @@ class SirenWebMvcIntegrationTest {
         result.andExpect(status().isNoContent()).andExpect(header().stringValues(LOCATION, "http://localhost/persons/0"));
     }
 
+    @Nested
+    @NestedTestConfiguration(OVERRIDE)
+    @ContextConfiguration
+    @WebAppConfiguration
+    class ServerTiming {
+
+        @Autowired
+        private WebApplicationContext context;
+
+        private MockMvc mockMvc;
+
+        @BeforeEach
+        void beforeEach() {
+            mockMvc = webAppContextSetup(context).build();
+        }
+
+        @Test
+        void findOne_should_contain_server_timing_header() throws Exception {
+            String expected = SirenWebMvcIntegrationTest.this.mockMvc.perform(get("/persons/0").accept(SIREN_JSON)).andReturn()
+                .getResponse().getContentAsString();
+
+            ResultActions result = mockMvc.perform(get("/persons/0").accept(SIREN_JSON));
+            result.andExpect(status().isOk()).andExpect(content().contentType(SIREN_JSON));
+
+            MockHttpServletResponse response = result.andReturn().getResponse();
+            assertThat(response.getHeader(SirenServerTimings.HEADER)).contains("siren-links;dur=", "siren-properties;dur=",
+                "siren-titles;dur=", "siren-json;dur=");
+            assertThat(response.getContentAsString()).isEqualTo(expected);
+        }
+
+        @Test
+        void findAll_should_not_contain_server_timing_header_if_body_exceeds_maximum_size() throws Exception {
+            ResultActions result = mockMvc.perform(get("/persons").accept(SIREN_JSON));
+            result.andExpect(status().isOk()).andExpect(header().doesNotExist(SirenServerTimings.HEADER));
+
+            assertThat(result.andReturn().getResponse().getContentAsByteArray())
+                .hasSizeGreaterThan(SERVER_TIMING_MAXIMUM_BODY_SIZE);
+            result.andExpect(jsonPath("$.entities[2].properties.name", is("Mary")));
+        }
+
+        @Test
+        void findOne_as_smile_should_not_contain_server_timing_header() throws Exception {
+            ResultActions result = mockMvc.perform(get("/persons/0").accept(SIREN_SMILE));
+            result.andExpect(status().isOk()).andExpect(header().doesNotExist(SirenServerTimings.HEADER));
+        }
+
+        @Configuration
+        @Import(TestConfig.class)
+        static class ServerTimingConfig {
+
+            @Bean
+            SirenConfiguration sirenConfiguration() {
+                return new SirenConfiguration().withServerTimingMaximumBodySize(SERVER_TIMING_MAXIMUM_BODY_SIZE);
+            }
+        }
+    }
+
+    @Nested
+    @NestedTestConfiguration(OVERRIDE)
+    @ContextConfiguration
+    @WebAppConfiguration
+    class Projection {
+
+        @Autowired
+        private WebApplicationContext context;
+
+        private MockMvc mockMvc;
+
+        @BeforeEach
+        void beforeEach() {
+            mockMvc = webAppContextSetup(context).build();
+        }
+
+        @Test
+        void findOne_should_contain_requested_fields_links_and_actions_only() throws Exception {
+            ResultActions result =
+                mockMvc.perform(get("/persons/0?fields=name&include=links:self,actions:update").accept(SIREN_JSON));
+            result.andExpect(status().isOk()).andExpect(content().contentType(SIREN_JSON));
+
+            result.andExpect(jsonPath("$.class[0]", is(not(empty())))) //
+                .andExpect(jsonPath("$.properties.name", is("Peter"))) //
+                .andExpect(jsonPath("$.properties.age").doesNotExist()) //
+                .andExpect(jsonPath("$.links", hasSize(1))) //
+                .andExpect(jsonPath("$.links[0].rel[0]", is("self"))) //
+                .andExpect(jsonPath("$.actions", hasSize(1))) //
+                .andExpect(jsonPath("$.actions[0].name", is("update"))) //
+                .andExpect(jsonPath("$.title").doesNotExist());
+        }
+
+        @Test
+        void findAll_should_apply_dotted_paths_to_sub_entities() throws Exception {
+            ResultActions result = mockMvc.perform(get("/persons?fields=item.age&include=item.links:self").accept(SIREN_JSON));
+            result.andExpect(status().isOk());
+
+            result.andExpect(jsonPath("$.links[0].rel[0]", is("self"))) //
+                .andExpect(jsonPath("$.actions[0].name", is("insert"))) //
+                .andExpect(jsonPath("$.entities", hasSize(3))) //
+                .andExpect(jsonPath("$.entities[0].rel[0]", is("item"))) //
+                .andExpect(jsonPath("$.entities[0].properties.age", is(33))) //
+                .andExpect(jsonPath("$.entities[0].properties.name").doesNotExist()) //
+                .andExpect(jsonPath("$.entities[0].links", hasSize(1))) //
+                .andExpect(jsonPath("$.entities[0].links[0].href", is("http://localhost/persons/0")));
+        }
+
+        @Test
+        void findAll_should_not_contain_sub_entities_if_not_included() throws Exception {
+            ResultActions result = mockMvc.perform(get("/persons?include=links").accept(SIREN_JSON));
+            result.andExpect(status().isOk());
+
+            result.andExpect(jsonPath("$.links[0].rel[0]", is("self"))) //
+                .andExpect(jsonPath("$.entities").doesNotExist()) //
+                .andExpect(jsonPath("$.actions").doesNotExist());
+        }
+
+        @Test
+        void findOne_should_not_be_projected_if_not_requested() throws Exception {
+            String expected = SirenWebMvcIntegrationTest.this.mockMvc.perform(get("/persons/0").accept(SIREN_JSON)).andReturn()
+                .getResponse().getContentAsString();
+
+            ResultActions result = mockMvc.perform(get("/persons/0").accept(SIREN_JSON));
+            result.andExpect(status().isOk()).andExpect(content().string(expected));
+        }
+
+        @Configuration
+        @Import(TestConfig.class)
+        static class ProjectionConfig {
+
+            @Bean
+            SirenConfiguration sirenConfiguration() {
+                return new SirenConfiguration().withProjectionEnabled(true);
+            }
+        }
+    }
+
     @Configuration
     @EnableWebMvc
     @EnableHypermediaSupport(type = {})
+    @Import(SirenMediaTypeConfiguration.class)
     static class TestConfig {
 
         @Bean
         WebMvcPersonController personController() {
             return new WebMvcPersonController();
         }
-
-        @Bean
-        SirenMediaTypeConfiguration sirenMediaTypeConfiguration(ObjectProvider<MessageResolver> messageResolver,
-            ObjectProvider<SirenConfiguration> configuration, ObjectProvider<SirenEntityClassProvider> entityClassProvider,
-            ObjectProvider<SirenEntityRelProvider> entityRelProvider,
-            ObjectProvider<SirenActionFieldTypeConverter> sirenActionFieldTypeConverter,
-            ObjectProvider<RepresentationModelFactories> representationModelFactories) {
-
-            return new SirenMediaTypeConfiguration(messageResolver, configuration, entityClassProvider, entityRelProvider,
-                sirenActionFieldTypeConverter, representationModelFactories);
-        }
     }
 
 }
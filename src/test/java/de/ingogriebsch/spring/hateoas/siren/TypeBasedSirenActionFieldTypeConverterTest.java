@@ -60,6 +60,27 @@ class TypeBasedSirenActionFieldTypeConverterTest {
         assertThat(converter.execute(propertyMetadata(String.class), APPLICATION_FORM_URLENCODED)).contains(CHECKBOX);
     }
 
+    @Test
+    void should_respect_mappings_added_after_a_type_was_resolved() {
+        List<TypeMapping> mappings = newArrayList();
+        SirenActionFieldTypeConverter converter = new TypeBasedSirenActionFieldTypeConverter(mappings);
+
+        assertThat(converter.execute(propertyMetadata(Integer.class), APPLICATION_FORM_URLENCODED)).contains(NUMBER);
+
+        mappings.add(typeMapping(Integer.class, CHECKBOX));
+
+        assertThat(converter.execute(propertyMetadata(Integer.class), APPLICATION_FORM_URLENCODED)).contains(CHECKBOX);
+    }
+
+    @Test
+    void should_keep_the_order_of_the_mappings_if_types_are_resolved_repeatedly() {
+        List<TypeMapping> mappings = newArrayList(typeMapping(Number.class, CHECKBOX), typeMapping(Integer.class, TEXT));
+        SirenActionFieldTypeConverter converter = new TypeBasedSirenActionFieldTypeConverter(mappings);
+
+        assertThat(converter.execute(propertyMetadata(Integer.class), APPLICATION_FORM_URLENCODED)).contains(CHECKBOX);
+        assertThat(converter.execute(propertyMetadata(Integer.class), APPLICATION_FORM_URLENCODED)).contains(CHECKBOX);
+    }
+
     @ParameterizedTest(name = "should convert {0} to {1}")
     @MethodSource("convertShouldReturnMatchingTypeInput")
     void should_return_matching_type(Class<?> sourceType, HtmlInputType targetType) {
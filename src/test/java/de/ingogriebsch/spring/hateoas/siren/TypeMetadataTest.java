@@ -0,0 +1,73 @@
+/*-
+ * Copyright 2019-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.ingogriebsch.spring.hateoas.siren;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.ingogriebsch.spring.hateoas.siren.support.Country;
+import de.ingogriebsch.spring.hateoas.siren.support.Person;
+import de.ingogriebsch.spring.hateoas.siren.support.State;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.RepresentationModel;
+
+class TypeMetadataTest {
+
+    @Test
+    void of_should_return_the_same_instance_for_the_same_type() {
+        assertThat(TypeMetadata.of(Person.class)).isSameAs(TypeMetadata.of(Person.class));
+    }
+
+    @Nested
+    class GetDefaultClasses {
+
+        @Test
+        void should_return_simplified_name_of_the_representation_model_type() {
+            assertThat(TypeMetadata.of(RepresentationModel.class).getDefaultClasses()).containsExactly("representation");
+            assertThat(TypeMetadata.of(EntityModel.class).getDefaultClasses()).containsExactly("entity");
+            assertThat(TypeMetadata.of(State.class).getDefaultClasses()).containsExactly("entity");
+            assertThat(TypeMetadata.of(CollectionModel.class).getDefaultClasses()).containsExactly("collection");
+            assertThat(TypeMetadata.of(Country.class).getDefaultClasses()).containsExactly("collection");
+            assertThat(TypeMetadata.of(PagedModel.class).getDefaultClasses()).containsExactly("paged");
+        }
+
+        @Test
+        void should_return_empty_list_if_type_is_no_representation_model() {
+            assertThat(TypeMetadata.of(Person.class).getDefaultClasses()).isEmpty();
+        }
+    }
+
+    @Nested
+    class GetTitleCodes {
+
+        @Test
+        void should_return_codes_from_most_to_least_specific() {
+            assertThat(TypeMetadata.of(Person.class).getTitleCodes()).containsExactly( //
+                "_entity." + Person.class.getName() + ".title", //
+                "_entity.Person.title", //
+                "_entity.default.title");
+        }
+
+        @Test
+        void should_not_expose_the_cached_codes() {
+            TypeMetadata.of(Person.class).getTitleCodes()[0] = "changed";
+            assertThat(TypeMetadata.of(Person.class).getTitleCodes()[0]).isNotEqualTo("changed");
+        }
+    }
+}
@@ -26,6 +26,7 @@ import static reactor.function.TupleUtils.function;
 import java.util.Map;
 import java.util.Optional;
 
+import de.ingogriebsch.spring.hateoas.siren.SirenReactiveCollectionModel;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
@@ -55,17 +56,15 @@ public class WebFluxPersonController {
     }
 
     @GetMapping("/persons")
-    public Mono<CollectionModel<EntityModel<Person>>> findAll() {
+    public Mono<SirenReactiveCollectionModel<EntityModel<Person>>> findAll() {
         WebFluxPersonController controller = methodOn(WebFluxPersonController.class);
 
-        return Flux.fromIterable(PERSONS.keySet()) //
-            .flatMap(this::findOne) //
-            .collectList() //
-            .flatMap(resources -> linkTo(controller.findAll()).withSelfRel() //
-                .andAffordance(controller.insert(null)) //
-                .andAffordance(controller.search(null, null)) //
-                .toMono() //
-                .map(selfLink -> CollectionModel.of(resources, selfLink)));
+        return linkTo(controller.findAll()).withSelfRel() //
+            .andAffordance(controller.insert(null)) //
+            .andAffordance(controller.search(null, null)) //
+            .toMono() //
+            .map(selfLink -> SirenReactiveCollectionModel.of(Flux.fromIterable(PERSONS.keySet()).concatMap(this::findOne),
+                selfLink));
     }
 
     @GetMapping("/persons/search")
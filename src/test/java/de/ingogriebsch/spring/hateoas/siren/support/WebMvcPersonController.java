@@ -21,6 +21,7 @@ import static java.util.stream.IntStream.range;
 
 import static com.google.common.collect.Maps.newHashMap;
 import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_JSON_VALUE;
+import static de.ingogriebsch.spring.hateoas.siren.MediaTypes.SIREN_SMILE_VALUE;
 import static org.springframework.hateoas.IanaLinkRelations.SELF;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.afford;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
@@ -109,7 +110,7 @@ public class WebMvcPersonController {
             personsLink);
     }
 
-    @PostMapping(path = "/persons", consumes = SIREN_JSON_VALUE)
+    @PostMapping(path = "/persons", consumes = { SIREN_JSON_VALUE, SIREN_SMILE_VALUE })
     public ResponseEntity<?> insert(@RequestBody EntityModel<Person> person) {
         int personId = PERSONS.size();
         PERSONS.put(personId, person.getContent());